@@ -0,0 +1,184 @@
+package com.project.analyzer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.request.DollDialoguesRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.exception.PythonApiException;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "analyzer.coalescing.enabled", havingValue = "true")
+public class CoalescingRiskAnalyzer implements RiskAnalyzer {
+    private final RiskAnalyzer delegate;
+    private final Object lock = new Object();
+    private Batch current;
+    private int dispatching;
+
+    @Value("${analyzer.coalescing.window:PT0.05S}")
+    private Duration window;
+
+    @Value("${analyzer.coalescing.max-dialogues:2000}")
+    private int maxDialogues;
+
+    @Value("${analyzer.coalescing.wait-when-idle:false}")
+    private boolean waitWhenIdle;
+
+    @Value("${analyzer.coalescing.await-timeout:PT2M}")
+    private Duration awaitTimeout;
+
+    public CoalescingRiskAnalyzer(RiskAnalyzer delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public AnalysisResponseDto analyze(String dollId, Stream<DialogueAnalysisRequestDto> dialogues) {
+        DollDialoguesRequestDto request = new DollDialoguesRequestDto(dollId, dialogues.toList());
+        if (request.dialogues().size() >= maxDialogues)
+            return delegate.analyze(dollId, request.dialogues().stream());
+
+        CompletableFuture<AnalysisResponseDto> result = new CompletableFuture<>();
+        Batch batch;
+        boolean leader = false;
+        boolean wait = false;
+        synchronized (lock) {
+            if (current != null && current.dialogueCount + request.dialogues().size() > maxDialogues)
+                seal(current);
+            if (current == null) {
+                current = new Batch();
+                leader = true;
+                // 진행 중인 호출이 없으면 더 모을 요청도 없으므로 창을 기다리지 않고 바로 보냄
+                wait = waitWhenIdle || dispatching > 0;
+            }
+            batch = current;
+            batch.add(request, result);
+            if (batch.dialogueCount >= maxDialogues)
+                seal(batch);
+        }
+
+        if (leader) {
+            if (wait)
+                awaitWindow(batch);
+            else
+                sealNow(batch);
+            dispatch(batch);
+        }
+        return await(result);
+    }
+
+    private void seal(Batch batch) {
+        batch.sealed = true;
+        if (current == batch)
+            current = null;
+        lock.notifyAll();
+    }
+
+    private void sealNow(Batch batch) {
+        synchronized (lock) {
+            seal(batch);
+        }
+    }
+
+    private void awaitWindow(Batch batch) {
+        long deadline = System.nanoTime() + window.toNanos();
+        synchronized (lock) {
+            try {
+                long remaining;
+                while (!batch.sealed && (remaining = deadline - System.nanoTime()) > 0)
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                seal(batch);
+            }
+        }
+    }
+
+    private void dispatch(Batch batch) {
+        log.debug("분석 요청 일괄 전송: requestCount={}, dialogueCount={}", batch.requests.size(), batch.dialogueCount);
+        synchronized (lock) {
+            dispatching++;
+        }
+        try {
+            if (batch.requests.size() == 1) {
+                DollDialoguesRequestDto request = batch.requests.get(0);
+                batch.results.get(0).complete(delegate.analyze(request.dollId(), request.dialogues().stream()));
+                return;
+            }
+            route(batch, delegate.analyzeBatch(batch.requests));
+        } catch (Throwable e) {
+            batch.results.forEach(result -> result.completeExceptionally(e));
+            if (e instanceof Error error)
+                throw error;
+        } finally {
+            synchronized (lock) {
+                dispatching--;
+            }
+        }
+    }
+
+    // 분석 서버가 결과 순서를 바꿔 보낼 수 있으므로 위치가 아니라 인형 ID로 돌려줌
+    private void route(Batch batch, List<AnalysisResponseDto> responses) {
+        Map<String, Deque<AnalysisResponseDto>> byDollId = new HashMap<>();
+        for (AnalysisResponseDto response : responses)
+            byDollId.computeIfAbsent(response.overallResult().dollId(), dollId -> new ArrayDeque<>()).add(response);
+        for (int i = 0; i < batch.requests.size(); i++) {
+            String dollId = batch.requests.get(i).dollId();
+            Deque<AnalysisResponseDto> matching = byDollId.get(dollId);
+            if (matching != null && !matching.isEmpty())
+                batch.results.get(i).complete(matching.poll());
+            else
+                batch.results.get(i).completeExceptionally(new PythonApiException(
+                        "분석 서버의 일괄 분석 결과에 인형(" + dollId + ")의 결과가 없습니다.", HttpStatus.SERVICE_UNAVAILABLE, false));
+        }
+    }
+
+    private AnalysisResponseDto await(CompletableFuture<AnalysisResponseDto> result) {
+        try {
+            return result.get(awaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new PythonApiException("분석 요청 처리 중 오류가 발생했습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (TimeoutException e) {
+            throw new PythonApiException("일괄 분석 결과를 기다리는 시간이 초과되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PythonApiException("분석 요청 처리 중 오류가 발생했습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private static class Batch {
+        private final List<DollDialoguesRequestDto> requests = new ArrayList<>();
+        private final List<CompletableFuture<AnalysisResponseDto>> results = new ArrayList<>();
+        private int dialogueCount;
+        private boolean sealed;
+
+        private void add(DollDialoguesRequestDto request, CompletableFuture<AnalysisResponseDto> result) {
+            requests.add(request);
+            results.add(result);
+            dialogueCount += request.dialogues().size();
+        }
+    }
+}
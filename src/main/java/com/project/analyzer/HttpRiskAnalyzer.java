@@ -0,0 +1,169 @@
+package com.project.analyzer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.request.DollDialoguesRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.exception.PythonApiException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "analyzer.type", havingValue = "http", matchIfMissing = true)
+public class HttpRiskAnalyzer implements RiskAnalyzer {
+    private static final String INSTANCE_NAME = "pythonAnalyzer";
+
+    private final RestTemplate analyzerRestTemplate;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Value("${python.server.url}")
+    private String pythonServerUrl;
+
+    @Value("${analyzer.http.gzip-request:false}")
+    private boolean gzipRequest;
+
+    public HttpRiskAnalyzer(RestTemplate analyzerRestTemplate, ObjectMapper objectMapper,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.analyzerRestTemplate = analyzerRestTemplate;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("분석 서버 서킷 브레이커 상태 변경: {} -> {}",
+                    event.getStateTransition().getFromState(), event.getStateTransition().getToState());
+            meterRegistry.counter("analyzer.circuitbreaker.transitions",
+                    "name", INSTANCE_NAME,
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+        });
+    }
+
+    @Override
+    public AnalysisResponseDto analyze(String dollId, Stream<DialogueAnalysisRequestDto> dialogues) {
+        return protect(dollId, () -> requestAnalysis(dollId, dialogues));
+    }
+
+    @Override
+    public List<AnalysisResponseDto> analyzeBatch(List<DollDialoguesRequestDto> requests) {
+        String dollIds = requests.stream().map(DollDialoguesRequestDto::dollId).collect(Collectors.joining(","));
+        return protect(dollIds, () -> requestBatchAnalysis(requests, dollIds));
+    }
+
+    private <T> T protect(String dollId, Supplier<T> call) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException e) {
+            log.warn("분석 서버 서킷 브레이커 열림, 요청 차단: dollId={}", dollId);
+            throw new PythonApiException("분석 서버가 응답하지 않아 일시적으로 분석 요청을 차단했습니다. 잠시 후 다시 시도해 주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (BulkheadFullException e) {
+            log.warn("분석 서버 동시 요청 한도 초과: dollId={}", dollId);
+            throw new PythonApiException("분석 서버 연결이 모두 사용 중입니다. 잠시 후 다시 시도해 주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private AnalysisResponseDto requestAnalysis(String dollId, Stream<DialogueAnalysisRequestDto> dialogues) {
+        log.info("Python 서버로 분석 요청: url={}, dollId={}", pythonServerUrl, dollId);
+        AtomicInteger dialogueCount = new AtomicInteger();
+        ResponseExtractor<ResponseEntity<AnalysisResponseDto>> extractor =
+                analyzerRestTemplate.responseEntityExtractor(AnalysisResponseDto.class);
+        AnalysisResponseDto apiResponse = analyzerRestTemplate.execute(
+                pythonServerUrl + "/analyze",
+                HttpMethod.POST,
+                request -> writeJson(request, body -> writeJsonArray(body, dialogues, dialogueCount)),
+                extractor).getBody();
+        log.info("Python 서버로부터 분석 결과 수신 완료: dollId={}, dialogueCount={}", dollId, dialogueCount.get());
+        return apiResponse;
+    }
+
+    private List<AnalysisResponseDto> requestBatchAnalysis(List<DollDialoguesRequestDto> requests, String dollIds) {
+        log.info("Python 서버로 일괄 분석 요청: url={}, dollIds={}", pythonServerUrl, dollIds);
+        ResponseExtractor<ResponseEntity<AnalysisResponseDto[]>> extractor =
+                analyzerRestTemplate.responseEntityExtractor(AnalysisResponseDto[].class);
+        AnalysisResponseDto[] apiResponses = analyzerRestTemplate.execute(
+                pythonServerUrl + "/analyze/batch",
+                HttpMethod.POST,
+                request -> writeJson(request, body -> objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .writeValue(body, requests)),
+                extractor).getBody();
+        if (apiResponses == null || apiResponses.length != requests.size())
+            throw new PythonApiException("분석 서버의 일괄 분석 결과 수가 요청 수와 다릅니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        log.info("Python 서버로부터 일괄 분석 결과 수신 완료: dollIds={}", dollIds);
+        return List.of(apiResponses);
+    }
+
+    private void writeJson(ClientHttpRequest request, StreamingHttpOutputMessage.Body json) throws IOException {
+        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (gzipRequest)
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+            streamingRequest.setBody(body -> writeBody(body, json));
+        } else {
+            writeBody(request.getBody(), json);
+        }
+    }
+
+    private void writeBody(OutputStream body, StreamingHttpOutputMessage.Body json) throws IOException {
+        if (!gzipRequest) {
+            json.writeTo(body);
+            return;
+        }
+        GZIPOutputStream gzip = new GZIPOutputStream(body, 8192);
+        json.writeTo(gzip);
+        gzip.finish();
+    }
+
+    private void writeJsonArray(OutputStream body, Stream<DialogueAnalysisRequestDto> dialogues,
+            AtomicInteger dialogueCount) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValuesAsArray(body)) {
+            Iterator<DialogueAnalysisRequestDto> iterator = dialogues.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                dialogueCount.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.analyzer;
+
+import java.util.function.Predicate;
+
+import com.project.exception.PythonApiException;
+
+public class NonRetryableAnalyzerFailure implements Predicate<Throwable> {
+    @Override
+    public boolean test(Throwable throwable) {
+        return throwable instanceof PythonApiException e && !e.isRetryable();
+    }
+}
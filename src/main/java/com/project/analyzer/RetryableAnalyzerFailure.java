@@ -0,0 +1,16 @@
+package com.project.analyzer;
+
+import java.util.function.Predicate;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import com.project.exception.PythonApiException;
+
+public class RetryableAnalyzerFailure implements Predicate<Throwable> {
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof PythonApiException e)
+            return e.isRetryable();
+        return throwable instanceof ResourceAccessException;
+    }
+}
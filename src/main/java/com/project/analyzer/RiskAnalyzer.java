@@ -0,0 +1,18 @@
+package com.project.analyzer;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.request.DollDialoguesRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+
+public interface RiskAnalyzer {
+    AnalysisResponseDto analyze(String dollId, Stream<DialogueAnalysisRequestDto> dialogues);
+
+    default List<AnalysisResponseDto> analyzeBatch(List<DollDialoguesRequestDto> requests) {
+        return requests.stream()
+                .map(request -> analyze(request.dollId(), request.dialogues().stream()))
+                .toList();
+    }
+}
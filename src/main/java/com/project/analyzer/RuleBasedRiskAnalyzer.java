@@ -0,0 +1,118 @@
+package com.project.analyzer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.project.domain.analysis.Risk;
+import com.project.dto.ConfidenceScoresDto;
+import com.project.dto.EvidenceDto;
+import com.project.dto.ReasonDto;
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.dto.response.DialogueAnalysisResponseDto;
+import com.project.dto.response.OverallResultPythonResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "analyzer.type", havingValue = "rule")
+public class RuleBasedRiskAnalyzer implements RiskAnalyzer {
+    private static final int MAX_EVIDENCE = 3;
+    private static final double MATCHED_SCORE = 0.7;
+    private static final double UNMATCHED_SCORE = 0.1;
+
+    private static final Map<Risk, List<String>> KEYWORDS = new EnumMap<>(Map.of(
+            Risk.EMERGENCY, List.of("죽고 싶", "살려", "쓰러졌", "숨이 안", "숨을 못", "자살"),
+            Risk.CRITICAL, List.of("아파", "아프", "통증", "어지러", "못 먹", "약을 안", "넘어졌"),
+            Risk.DANGER, List.of("외로", "우울", "슬퍼", "슬프", "힘들", "잠이 안", "혼자")));
+
+    private static final Map<Risk, String> TREATMENT_PLANS = new EnumMap<>(Map.of(
+            Risk.EMERGENCY, "즉시 보호자 및 응급 기관에 연락하고 현장 확인이 필요합니다.",
+            Risk.CRITICAL, "당일 중 보호자 연락 및 건강 상태 확인이 필요합니다.",
+            Risk.DANGER, "정기 안부 전화와 정서 지원 프로그램 연계를 권장합니다.",
+            Risk.POSITIVE, "현재 상태를 유지하며 정기 모니터링을 지속합니다."));
+
+    @Override
+    public AnalysisResponseDto analyze(String dollId, Stream<DialogueAnalysisRequestDto> dialogues) {
+        List<DialogueAnalysisResponseDto> dialogueResults = new ArrayList<>();
+        Iterator<DialogueAnalysisRequestDto> iterator = dialogues.iterator();
+        long seq = 0;
+        while (iterator.hasNext()) {
+            DialogueAnalysisRequestDto dialogue = iterator.next();
+            Risk label = classify(dialogue.text());
+            dialogueResults.add(new DialogueAnalysisResponseDto(
+                    seq++, dollId, dialogue.text(), dialogue.utteredAt(), label, scoresOf(label)));
+        }
+        log.info("규칙 기반 분석 완료: dollId={}, dialogueCount={}", dollId, dialogueResults.size());
+        return new AnalysisResponseDto(overallResult(dollId, dialogueResults), dialogueResults);
+    }
+
+    private OverallResultPythonResponseDto overallResult(String dollId, List<DialogueAnalysisResponseDto> dialogueResults) {
+        Risk label = dialogueResults.stream()
+                .map(DialogueAnalysisResponseDto::label)
+                .max(Comparator.naturalOrder())
+                .orElse(Risk.POSITIVE);
+
+        List<EvidenceDto> evidence = dialogueResults.stream()
+                .filter(dialogue -> dialogue.label() != Risk.POSITIVE)
+                .sorted(Comparator.comparing(DialogueAnalysisResponseDto::label).reversed())
+                .limit(MAX_EVIDENCE)
+                .map(dialogue -> new EvidenceDto(dialogue.seq().intValue(), dialogue.text(), MATCHED_SCORE))
+                .toList();
+
+        long matchedCount = dialogueResults.stream().filter(dialogue -> dialogue.label() == label).count();
+        String summary = label == Risk.POSITIVE
+                ? "위험 키워드가 포함된 발화가 없습니다."
+                : String.format("%s 위험 키워드가 포함된 발화 %d건이 확인되었습니다.", label, matchedCount);
+
+        String fullText = dialogueResults.stream()
+                .map(DialogueAnalysisResponseDto::text)
+                .collect(Collectors.joining(" "));
+
+        return new OverallResultPythonResponseDto(
+                dollId,
+                dialogueResults.size(),
+                fullText.length(),
+                label,
+                averageScores(dialogueResults),
+                TREATMENT_PLANS.get(label),
+                fullText,
+                new ReasonDto(evidence, summary));
+    }
+
+    private Risk classify(String text) {
+        for (Risk risk : List.of(Risk.EMERGENCY, Risk.CRITICAL, Risk.DANGER)) {
+            if (KEYWORDS.get(risk).stream().anyMatch(text::contains))
+                return risk;
+        }
+        return Risk.POSITIVE;
+    }
+
+    private ConfidenceScoresDto scoresOf(Risk label) {
+        return new ConfidenceScoresDto(
+                label == Risk.POSITIVE ? MATCHED_SCORE : UNMATCHED_SCORE,
+                label == Risk.DANGER ? MATCHED_SCORE : UNMATCHED_SCORE,
+                label == Risk.CRITICAL ? MATCHED_SCORE : UNMATCHED_SCORE,
+                label == Risk.EMERGENCY ? MATCHED_SCORE : UNMATCHED_SCORE);
+    }
+
+    private ConfidenceScoresDto averageScores(List<DialogueAnalysisResponseDto> dialogueResults) {
+        if (dialogueResults.isEmpty())
+            return scoresOf(Risk.POSITIVE);
+        return new ConfidenceScoresDto(
+                dialogueResults.stream().mapToDouble(dialogue -> dialogue.confidenceScores().positive()).average().orElse(0),
+                dialogueResults.stream().mapToDouble(dialogue -> dialogue.confidenceScores().danger()).average().orElse(0),
+                dialogueResults.stream().mapToDouble(dialogue -> dialogue.confidenceScores().critical()).average().orElse(0),
+                dialogueResults.stream().mapToDouble(dialogue -> dialogue.confidenceScores().emergency()).average().orElse(0));
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.analyzer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.request.DollDialoguesRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.exception.PythonApiException;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "analyzer.type", havingValue = "simulator")
+public class SimulatedRiskAnalyzer extends RuleBasedRiskAnalyzer {
+    @Value("${analyzer.simulator.latency:PT0.5S}")
+    private Duration latency;
+
+    @Value("${analyzer.simulator.latency-jitter:PT0S}")
+    private Duration latencyJitter;
+
+    @Value("${analyzer.simulator.error-rate:0.0}")
+    private double errorRate;
+
+    @Override
+    public AnalysisResponseDto analyze(String dollId, Stream<DialogueAnalysisRequestDto> dialogues) {
+        AnalysisResponseDto response = super.analyze(dollId, dialogues);
+        simulateModelCall(dollId);
+        return response;
+    }
+
+    @Override
+    public List<AnalysisResponseDto> analyzeBatch(List<DollDialoguesRequestDto> requests) {
+        List<AnalysisResponseDto> responses = requests.stream()
+                .map(request -> super.analyze(request.dollId(), request.dialogues().stream()))
+                .toList();
+        simulateModelCall(requests.stream().map(DollDialoguesRequestDto::dollId).collect(Collectors.joining(",")));
+        return responses;
+    }
+
+    private void simulateModelCall(String dollId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = latency.toMillis();
+        if (!latencyJitter.isZero())
+            delayMillis += random.nextLong(-latencyJitter.toMillis(), latencyJitter.toMillis() + 1);
+        try {
+            Thread.sleep(Math.max(0, delayMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PythonApiException("분석 시뮬레이션이 중단되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        if (random.nextDouble() < errorRate) {
+            log.warn("분석 시뮬레이터 오류 발생: dollId={}", dollId);
+            throw new PythonApiException("분석 서버에서 에러가 발생했습니다. (시뮬레이터)", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+}
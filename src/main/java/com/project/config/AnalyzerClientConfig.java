@@ -0,0 +1,46 @@
+package com.project.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class AnalyzerClientConfig {
+    private final PythonApiErrorHandler pythonApiErrorHandler;
+
+    @Value("${analyzer.http.connect-timeout:PT3S}")
+    private Duration connectTimeout;
+
+    @Value("${analyzer.http.read-timeout:PT60S}")
+    private Duration readTimeout;
+
+    @Value("${analyzer.http.http2:false}")
+    private boolean http2;
+
+    @Bean
+    HttpClient analyzerHttpClient() {
+        return HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    RestTemplate analyzerRestTemplate(RestTemplateBuilder builder, HttpClient analyzerHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(analyzerHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return builder.requestFactory(() -> requestFactory)
+                .errorHandler(pythonApiErrorHandler)
+                .build();
+    }
+}
@@ -1,34 +1,20 @@
 package com.project.config;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import lombok.RequiredArgsConstructor;
 
 @Configuration
-@RequiredArgsConstructor
 public class AppConfig {
 	@PersistenceContext
     private EntityManager entityManager;
-	private final PythonApiErrorHandler pythonApiErrorHandler;
 
 	@Bean
     JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
-	 
-	@Bean
-	RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.requestFactory(() -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
-        		.errorHandler(pythonApiErrorHandler)
-                .build();
-    }
 }
@@ -0,0 +1,86 @@
+package com.project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.project.exception.ExportLimitException;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+	@Value("${analysis.job.pool-size:4}")
+	private int poolSize;
+
+	@Value("${analysis.job.queue-capacity:50}")
+	private int queueCapacity;
+
+	@Value("${analysis.batch.parallelism:4}")
+	private int batchParallelism;
+
+	@Value("${analysis.batch.queue-capacity:100}")
+	private int batchQueueCapacity;
+
+	@Value("${export.concurrency:2}")
+	private int exportConcurrency;
+
+	@Bean
+	ThreadPoolTaskExecutor analysisExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("analysis-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	@Bean
+	ThreadPoolTaskExecutor analysisBatchExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(batchParallelism);
+		executor.setMaxPoolSize(batchParallelism);
+		executor.setQueueCapacity(batchQueueCapacity);
+		executor.setThreadNamePrefix("analysis-batch-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	// 커밋 후 대시보드 프로젝션 갱신과 전문 검색 색인을 저장 요청의 커넥션이 반납된 뒤 처리함
+	// 갱신은 DB를 다시 읽으므로 한 스레드에서 순서대로 실행해 오래된 읽기가 최신 반영을 덮지 않게 함
+	@Bean
+	ThreadPoolTaskExecutor projectionExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setThreadNamePrefix("projection-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	@Bean
+	SimpleAsyncTaskExecutor sseDispatchExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-dispatch-");
+		executor.setVirtualThreads(true);
+		return executor;
+	}
+
+	@Bean
+	ThreadPoolTaskExecutor exportExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(exportConcurrency);
+		executor.setMaxPoolSize(exportConcurrency);
+		executor.setQueueCapacity(exportConcurrency * 5);
+		executor.setThreadNamePrefix("export-");
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			throw new ExportLimitException("내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+		});
+		return executor;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.project.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ExportTaskFactory {
+    private final ThreadPoolTaskExecutor exportExecutor;
+
+    @Value("${export.timeout:PT1H}")
+    private Duration exportTimeout;
+
+    // 내보내기만 전용 풀과 시간 제한으로 실행하고, 다른 비동기 요청은 MVC 기본 설정을 그대로 씀
+    // 헤더는 작업이 시작된 뒤 설정해야 풀이 가득 차 거절될 때 오류 응답이 첨부 파일로 내려가지 않음
+    public WebAsyncTask<Void> csv(HttpServletResponse response, String filename, StreamingResponseBody body) {
+        return new WebAsyncTask<>(exportTimeout.toMillis(), exportExecutor, () -> {
+            response.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
@@ -27,7 +27,7 @@ public class PythonApiErrorHandler implements ResponseErrorHandler {
             String responseBody = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
             String errorMessage = parseErrorMessage(responseBody);
             
-            throw new PythonApiException(errorMessage, HttpStatus.SERVICE_UNAVAILABLE);
+            throw new PythonApiException(errorMessage, HttpStatus.SERVICE_UNAVAILABLE, false);
         }
 
         throw new PythonApiException(
@@ -24,6 +24,8 @@ import com.project.config.filter.JWTAuthenticationFilter;
 import com.project.config.filter.JWTAuthorizationFilter;
 import com.project.persistence.MemberRepository;
 
+import jakarta.servlet.DispatcherType;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -51,6 +53,7 @@ public class SecurityConfig {
 		http.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 		http.cors(cors->cors.configurationSource(corsSource()));
 		http.authorizeHttpRequests(auth -> auth
+				.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
 				.requestMatchers(HttpMethod.POST, "/api/members").permitAll()
                 .requestMatchers("/api/login", "/api/refresh").permitAll()
                 .requestMatchers("/api/seniors/photos/**").permitAll()
@@ -6,10 +6,12 @@ import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.project.config.converter.StringToCountModeConverter;
 import com.project.config.converter.StringToGuConverter;
 import com.project.config.converter.StringToBeopjeongdongConverter;
 import com.project.config.converter.StringToResidenceConverter;
 import com.project.config.converter.StringToRiskConverter;
+import com.project.config.converter.StringToSearchHitTypeConverter;
 import com.project.config.converter.StringToSexConverter;
 
 @Configuration
@@ -31,5 +33,7 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addConverter(new StringToResidenceConverter());
         registry.addConverter(new StringToGuConverter());
         registry.addConverter(new StringToBeopjeongdongConverter());
+        registry.addConverter(new StringToCountModeConverter());
+        registry.addConverter(new StringToSearchHitTypeConverter());
     }
 }
\ No newline at end of file
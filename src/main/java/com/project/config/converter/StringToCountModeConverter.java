@@ -0,0 +1,17 @@
+package com.project.config.converter;
+
+import com.project.dto.request.CountMode;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToCountModeConverter implements Converter<String, CountMode> {
+
+    @Override
+    public CountMode convert(String source) {
+        if (source == null || source.isEmpty()) {
+            return null;
+        }
+        return CountMode.from(source);
+    }
+}
\ No newline at end of file
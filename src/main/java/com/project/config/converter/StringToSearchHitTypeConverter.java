@@ -0,0 +1,17 @@
+package com.project.config.converter;
+
+import com.project.search.SearchHitType;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToSearchHitTypeConverter implements Converter<String, SearchHitType> {
+
+    @Override
+    public SearchHitType convert(String source) {
+        if (source == null || source.isEmpty()) {
+            return null;
+        }
+        return SearchHitType.from(source);
+    }
+}
\ No newline at end of file
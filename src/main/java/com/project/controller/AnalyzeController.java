@@ -2,26 +2,35 @@ package com.project.controller;
 
 import java.net.URI;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.project.config.ExportTaskFactory;
+import com.project.dto.request.CountMode;
 import com.project.dto.request.OverallResultSearchCondition;
 import com.project.dto.response.AnalysisDetailResponseDto;
+import com.project.dto.response.AnalysisJobResponseDto;
 import com.project.dto.response.AnalysisResponseWithIdDto;
+import com.project.dto.response.BatchAnalysisResponseDto;
+import com.project.dto.response.CursorPageDto;
 import com.project.dto.response.CustomPageDto;
 import com.project.dto.response.OverallResultListResponseDto;
+import com.project.service.AnalysisJobService;
 import com.project.service.AnalyzeService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -30,22 +39,60 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AnalyzeController {
     private final AnalyzeService analyzeService;
+    private final AnalysisJobService analysisJobService;
+    private final ExportTaskFactory exportTaskFactory;
 
     @PostMapping
-    public ResponseEntity<AnalysisResponseWithIdDto> analyzeDialogues(MultipartFile file) {
-    	AnalysisResponseWithIdDto response = analyzeService.analyzeAndSave(file);
+    public ResponseEntity<?> analyzeDialogues(MultipartFile file,
+    		@RequestParam(defaultValue = "false") boolean force) {
+    	AnalysisJobService.Attempt<AnalysisResponseWithIdDto> attempt = analysisJobService.analyze(file, currentUsername(), force);
+    	if (attempt.result() == null)
+    		return accepted(attempt.job());
 		URI location = ServletUriComponentsBuilder.fromCurrentRequest()
 				.path("/{id}")
-				.buildAndExpand(response.id())
+				.buildAndExpand(attempt.result().id())
 				.toUri();
-        return ResponseEntity.created(location).body(response);
+        return ResponseEntity.created(location).body(attempt.result());
+    }
+
+    @PostMapping(params = "async=true")
+    public ResponseEntity<AnalysisJobResponseDto> submitAnalysisJob(MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean force) {
+        return accepted(analysisJobService.submit(file, currentUsername(), force));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> analyzeBatchDialogues(MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean force) {
+        AnalysisJobService.Attempt<BatchAnalysisResponseDto> attempt = analysisJobService.analyzeBatch(file, currentUsername(), force);
+        if (attempt.result() == null)
+            return accepted(attempt.job());
+        return ResponseEntity.ok(attempt.result());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<AnalysisJobResponseDto> getAnalysisJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(analysisJobService.getJob(jobId));
     }
     
     @GetMapping
     public ResponseEntity<CustomPageDto<OverallResultListResponseDto>> searchOverallResults(
-            @Valid @ModelAttribute OverallResultSearchCondition condition, Pageable pageable) {
-        Page<OverallResultListResponseDto> resultsPage = analyzeService.searchOverallResults(condition, pageable);
-        return ResponseEntity.ok(CustomPageDto.from(resultsPage));
+            @Valid @ModelAttribute OverallResultSearchCondition condition, Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "exact") CountMode countMode) {
+        return ResponseEntity.ok(analyzeService.searchOverallResults(condition, pageable, countMode));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDto<OverallResultListResponseDto>> searchOverallResultsByCursor(
+            @Valid @ModelAttribute OverallResultSearchCondition condition,
+            @RequestParam String cursor, @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(analyzeService.searchOverallResults(condition, cursor, size));
+    }
+    
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportOverallResults(@Valid @ModelAttribute OverallResultSearchCondition condition,
+            HttpServletResponse response) {
+        return exportTaskFactory.csv(response, "overall-results.csv", out -> analyzeService.exportOverallResults(condition, out));
     }
     
     @GetMapping("/{id}")
@@ -59,4 +106,16 @@ public class AnalyzeController {
     	analyzeService.deleteAnalysis(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<AnalysisJobResponseDto> accepted(AnalysisJobResponseDto job) {
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/jobs/{jobId}")
+                .buildAndExpand(job.jobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    private String currentUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+}
@@ -1,22 +1,53 @@
 package com.project.controller;
 
+import com.project.domain.analysis.Risk;
+import com.project.dto.response.DashboardBucketDto;
 import com.project.dto.response.DashboardResponseDto;
 import com.project.service.DashboardService;
+import com.project.service.DashboardStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/dashboard")
 @RequiredArgsConstructor
 public class DashboardController {
     private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
 
     @GetMapping
     public ResponseEntity<DashboardResponseDto> getDashboardData() {
         DashboardResponseDto dashboardData = dashboardService.getDashboardData();
         return ResponseEntity.ok(dashboardData);
     }
+
+    @GetMapping("/buckets/{state}")
+    public ResponseEntity<DashboardBucketDto> getBucket(
+            @PathVariable Risk state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        DashboardBucketDto bucket = dashboardService.getBucket(state, cursor, size);
+        return ResponseEntity.ok(bucket);
+    }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return dashboardStreamService.subscribe(username, dashboardService.currentVersion());
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<DashboardResponseDto> rebuildDashboard() {
+        DashboardResponseDto dashboardData = dashboardService.rebuild();
+        return ResponseEntity.ok(dashboardData);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.project.controller;
 
 import com.project.dto.response.NotificationResponseDto;
+import com.project.dto.response.UnreadNotificationCountResponseDto;
 import com.project.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -19,10 +20,10 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String username = authentication.getName();
-        return notificationService.subscribe(username);
+        return notificationService.subscribe(username, lastEventId);
     }
 
     @GetMapping
@@ -32,9 +33,16 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadNotificationCountResponseDto> getUnreadCount() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(notificationService.getUnreadCount(username));
+    }
+
     @PostMapping("/{id}/read")
     public ResponseEntity<Void> markNotificationAsRead(@PathVariable("id") Long notificationId) {
-        notificationService.markAsRead(notificationId);
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        notificationService.markAsRead(username, notificationId);
         return ResponseEntity.ok().build();
     }
     
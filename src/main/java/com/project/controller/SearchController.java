@@ -0,0 +1,38 @@
+package com.project.controller;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.dto.response.CustomPageDto;
+import com.project.dto.response.DialogueSearchResultDto;
+import com.project.dto.response.SearchIndexRebuildResponseDto;
+import com.project.search.SearchHitType;
+import com.project.service.DialogueSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final DialogueSearchService dialogueSearchService;
+
+    @GetMapping("/dialogues")
+    public ResponseEntity<CustomPageDto<DialogueSearchResultDto>> searchDialogues(
+            @RequestParam String query,
+            @RequestParam(required = false) SearchHitType type,
+            @RequestParam(required = false) Long seniorId,
+            Pageable pageable) {
+        return ResponseEntity.ok(dialogueSearchService.search(query, type, seniorId, pageable));
+    }
+
+    @PostMapping("/dialogues/rebuild")
+    public ResponseEntity<SearchIndexRebuildResponseDto> rebuildDialogueIndex() {
+        return ResponseEntity.ok(new SearchIndexRebuildResponseDto(dialogueSearchService.rebuild()));
+    }
+}
\ No newline at end of file
@@ -4,7 +4,6 @@ import java.net.URI;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,21 +15,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.project.config.ExportTaskFactory;
+import com.project.dto.request.CountMode;
 import com.project.dto.request.SeniorRequestDto;
 import com.project.dto.request.SeniorSearchCondition;
 import com.project.dto.request.UpdateSeniorStateRequestDto;
+import com.project.dto.response.CursorPageDto;
 import com.project.dto.response.CustomPageDto;
 import com.project.dto.response.SeniorDetailResponseDto;
 import com.project.dto.response.SeniorListResponseDto;
 import com.project.dto.response.SeniorResponseDto;
 import com.project.dto.response.SeniorStateHistoryResponseDto;
+import com.project.dto.response.SeniorSummaryRepairResponseDto;
 import com.project.service.SeniorService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +45,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SeniorController {
     private final SeniorService seniorService;
+    private final ExportTaskFactory exportTaskFactory;
     @Value("${senior.photo.upload-path}")
     private String uploadPath;
 
@@ -56,9 +63,28 @@ public class SeniorController {
 	
     @GetMapping
     public ResponseEntity<CustomPageDto<SeniorListResponseDto>> searchSeniors(
-            @Valid @ModelAttribute SeniorSearchCondition condition, Pageable pageable) {
-        Page<SeniorListResponseDto> results = seniorService.searchSeniors(condition, pageable);
-        return ResponseEntity.ok(CustomPageDto.from(results));
+            @Valid @ModelAttribute SeniorSearchCondition condition, Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "exact") CountMode countMode) {
+        return ResponseEntity.ok(seniorService.searchSeniors(condition, pageable, countMode));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDto<SeniorListResponseDto>> searchSeniorsByCursor(
+            @Valid @ModelAttribute SeniorSearchCondition condition,
+            @RequestParam String cursor, @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(seniorService.searchSeniors(condition, cursor, size));
+    }
+    
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SeniorListResponseDto>> autocompleteSeniors(
+            @RequestParam String query, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(seniorService.autocompleteSeniors(query, limit));
+    }
+    
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportSeniors(@Valid @ModelAttribute SeniorSearchCondition condition,
+            HttpServletResponse response) {
+        return exportTaskFactory.csv(response, "seniors.csv", out -> seniorService.exportSeniors(condition, out));
     }
     
     @GetMapping("/{id}")
@@ -90,6 +116,12 @@ public class SeniorController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/analysis-summary/repair")
+    public ResponseEntity<SeniorSummaryRepairResponseDto> repairAnalysisSummaries() {
+        int repaired = seniorService.repairAnalysisSummaries();
+        return ResponseEntity.ok(new SeniorSummaryRepairResponseDto(repaired));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSenior(@PathVariable Long id) {
         seniorService.deleteSenior(id);
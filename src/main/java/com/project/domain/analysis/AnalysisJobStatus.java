@@ -0,0 +1,9 @@
+package com.project.domain.analysis;
+
+public enum AnalysisJobStatus {
+	PENDING,
+	RUNNING,
+	RETRYING,
+	COMPLETED,
+	FAILED
+}
@@ -10,6 +10,7 @@ import com.project.domain.senior.Doll;
 import com.project.domain.senior.Senior;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -18,15 +19,22 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_overall_result_doll_content_hash", columnList = "doll_id, content_hash"),
+        @Index(name = "idx_overall_result_timestamp_id", columnList = "timestamp, id"),
+        @Index(name = "idx_overall_result_senior_timestamp_id", columnList = "senior_id, timestamp, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OverallResult {
@@ -56,6 +64,9 @@ public class OverallResult {
     
     private String treatmentPlan;
     
+    @Column(length = 64)
+    private String contentHash;
+    
     private boolean isResolved;
     
     @Enumerated(EnumType.STRING)
@@ -65,13 +76,14 @@ public class OverallResult {
     private List<Dialogue> dialogues = new ArrayList<>();
     
     @Builder
-    public OverallResult(Doll doll, Senior senior, Risk label, ConfidenceScores confidenceScores, Reason reason, String treatmentPlan) {
+    public OverallResult(Doll doll, Senior senior, Risk label, ConfidenceScores confidenceScores, Reason reason, String treatmentPlan, String contentHash) {
         this.doll = doll;
         this.senior = senior;
         this.label = label;
         this.confidenceScores = confidenceScores;
         this.reason = reason;
         this.treatmentPlan = treatmentPlan;
+        this.contentHash = contentHash;
     }
     
     public void resolveWithLabel(Risk resolvedLabel) {
@@ -1,6 +1,5 @@
 package com.project.domain.notification;
 
-import com.project.domain.member.Member;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,6 +10,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "notification_event")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
@@ -19,10 +19,6 @@ public class Notification {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "recipient_username")
-    private Member recipient;
-
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private NotificationType notificationType;
@@ -31,21 +27,13 @@ public class Notification {
 
     private String relatedResourceId;
 
-    @Column(nullable = false)
-    private boolean isRead = false;
-
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     @Builder
-    public Notification(Member recipient, NotificationType notificationType, String message, String relatedResourceId) {
-        this.recipient = recipient;
+    public Notification(NotificationType notificationType, String message, String relatedResourceId) {
         this.notificationType = notificationType;
         this.message = message;
         this.relatedResourceId = relatedResourceId;
     }
-
-    public void markAsRead() {
-        this.isRead = true;
-    }
 }
\ No newline at end of file
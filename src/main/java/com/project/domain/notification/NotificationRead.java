@@ -0,0 +1,29 @@
+package com.project.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_notification_read_username_notification",
+        columnNames = {"username", "notification_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationRead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    public NotificationRead(String username, Long notificationId) {
+        this.username = username;
+        this.notificationId = notificationId;
+    }
+}
\ No newline at end of file
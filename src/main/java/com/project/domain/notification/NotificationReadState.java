@@ -0,0 +1,44 @@
+package com.project.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationReadState {
+
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    private long readWatermark;
+
+    @Column(nullable = false)
+    private long clearedWatermark;
+
+    public NotificationReadState(String username, long clearedWatermark) {
+        this.username = username;
+        this.readWatermark = clearedWatermark;
+        this.clearedWatermark = clearedWatermark;
+    }
+
+    public boolean isRead(long notificationId) {
+        return notificationId <= readWatermark;
+    }
+
+    public boolean isCleared(long notificationId) {
+        return notificationId <= clearedWatermark;
+    }
+
+    public void markAllAsRead(long upTo) {
+        this.readWatermark = Math.max(readWatermark, upTo);
+    }
+
+    public void clear(long upTo) {
+        this.clearedWatermark = Math.max(clearedWatermark, upTo);
+        this.readWatermark = Math.max(readWatermark, upTo);
+    }
+}
\ No newline at end of file
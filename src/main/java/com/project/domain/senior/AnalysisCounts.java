@@ -0,0 +1,58 @@
+package com.project.domain.senior;
+
+import com.project.domain.analysis.Risk;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisCounts {
+	@Column(nullable = false)
+	private long positiveCount;
+
+	@Column(nullable = false)
+	private long dangerCount;
+
+	@Column(nullable = false)
+	private long criticalCount;
+
+	@Column(nullable = false)
+	private long emergencyCount;
+
+	@Builder
+	public AnalysisCounts(long positiveCount, long dangerCount, long criticalCount, long emergencyCount) {
+		this.positiveCount = positiveCount;
+		this.dangerCount = dangerCount;
+		this.criticalCount = criticalCount;
+		this.emergencyCount = emergencyCount;
+	}
+
+	public static AnalysisCounts empty() {
+		return new AnalysisCounts(0, 0, 0, 0);
+	}
+
+	public void increment(Risk label) {
+		add(label, 1);
+	}
+
+	public void decrement(Risk label) {
+		add(label, -1);
+	}
+
+	private void add(Risk label, long delta) {
+		switch (label) {
+			case POSITIVE -> positiveCount = Math.max(0, positiveCount + delta);
+			case DANGER -> dangerCount = Math.max(0, dangerCount + delta);
+			case CRITICAL -> criticalCount = Math.max(0, criticalCount + delta);
+			case EMERGENCY -> emergencyCount = Math.max(0, emergencyCount + delta);
+		}
+	}
+}
@@ -4,8 +4,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.project.domain.analysis.OverallResult;
 import com.project.domain.analysis.Risk;
@@ -19,16 +21,20 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_senior_created_at_id", columnList = "created_at, id"))
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Senior {
 	@Id
@@ -69,6 +75,13 @@ public class Senior {
 
 	@CreationTimestamp
     private LocalDateTime createdAt;
+
+	private LocalDateTime lastStateChangedAt;
+
+	private Long latestOverallResultId;
+
+	@Embedded
+	private AnalysisCounts analysisCounts = AnalysisCounts.empty();
 	
 	@OneToMany(mappedBy = "senior", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<OverallResult> overallResults = new ArrayList<>();
@@ -81,6 +94,7 @@ public class Senior {
         this.birthDate = birthDate;
         this.sex = sex;
         this.state = Risk.POSITIVE;
+        this.lastStateChangedAt = LocalDateTime.now();
         this.residence = residence;
         this.phone = phone;
         this.address = address;
@@ -103,8 +117,37 @@ public class Senior {
     }
 
     public void updateState(Risk state) {
+        if (this.state != state)
+            this.lastStateChangedAt = LocalDateTime.now();
         this.state = state;
     }
+
+    public void recordAnalysis(OverallResult overallResult) {
+        this.latestOverallResultId = overallResult.getId();
+        analysisCounts().increment(overallResult.getLabel());
+    }
+
+    public void removeAnalysis(OverallResult overallResult, Long latestOverallResultId) {
+        this.latestOverallResultId = latestOverallResultId;
+        analysisCounts().decrement(overallResult.getLabel());
+    }
+
+    public boolean restoreAnalysisSummary(Long latestOverallResultId, LocalDateTime lastStateChangedAt,
+    		AnalysisCounts analysisCounts) {
+        boolean changed = !Objects.equals(this.latestOverallResultId, latestOverallResultId)
+                || !Objects.equals(this.lastStateChangedAt, lastStateChangedAt)
+                || !Objects.equals(this.analysisCounts, analysisCounts);
+        this.latestOverallResultId = latestOverallResultId;
+        this.lastStateChangedAt = lastStateChangedAt;
+        this.analysisCounts = analysisCounts;
+        return changed;
+    }
+
+    private AnalysisCounts analysisCounts() {
+        if (this.analysisCounts == null)
+            this.analysisCounts = AnalysisCounts.empty();
+        return this.analysisCounts;
+    }
     
     public void updateGuardianInfo(Guardian guardian) {
         this.guardian = guardian;
@@ -0,0 +1,17 @@
+package com.project.dto.request;
+
+public enum CountMode {
+	EXACT,
+	ESTIMATED,
+	NONE;
+
+    public static CountMode from(String value) {
+        String upperValue = value.toUpperCase();
+        for (CountMode mode : CountMode.values()) {
+            if (mode.name().equals(upperValue)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 CountMode 값입니다: " + value);
+    }
+}
\ No newline at end of file
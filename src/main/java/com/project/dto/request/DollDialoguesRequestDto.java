@@ -0,0 +1,9 @@
+package com.project.dto.request;
+
+import java.util.List;
+
+public record DollDialoguesRequestDto(
+		String dollId,
+		List<DialogueAnalysisRequestDto> dialogues
+) {
+}
@@ -3,6 +3,7 @@ package com.project.dto.request;
 import java.time.LocalDate;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.StringUtils;
 
 import com.project.domain.analysis.Risk;
 import com.project.domain.senior.Gu;
@@ -38,4 +39,12 @@ public class OverallResultSearchCondition {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     @PastOrPresent(message = "검색 종료일은 현재 또는 과거 날짜여야 합니다.")
     private LocalDate endDate;
+
+    public void setName(String name) {
+        this.name = StringUtils.hasText(name) ? name.trim() : null;
+    }
+
+    public void setDollId(String dollId) {
+        this.dollId = StringUtils.hasText(dollId) ? dollId.trim() : null;
+    }
 }
\ No newline at end of file
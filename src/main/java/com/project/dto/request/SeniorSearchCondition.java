@@ -1,5 +1,7 @@
 package com.project.dto.request;
 
+import org.springframework.util.StringUtils;
+
 import com.project.domain.analysis.Risk;
 import com.project.domain.senior.Gu;
 import com.project.domain.senior.Beopjeongdong;
@@ -16,6 +18,7 @@ public class SeniorSearchCondition {
     
     private String name;
     private String phone;
+    private String guardianPhone;
     private Sex sex;
     private Gu gu;
     private Beopjeongdong dong;
@@ -24,4 +27,20 @@ public class SeniorSearchCondition {
     
     @Min(value = 1, message = "나이 그룹은 1 이상의 값이어야 합니다.")
     private Integer ageGroup;
+
+    public void setName(String name) {
+        this.name = StringUtils.hasText(name) ? name.trim() : null;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = StringUtils.hasText(phone) ? phone.trim() : null;
+    }
+
+    public void setGuardianPhone(String guardianPhone) {
+        this.guardianPhone = StringUtils.hasText(guardianPhone) ? guardianPhone.trim() : null;
+    }
+
+    public void setDollId(String dollId) {
+        this.dollId = StringUtils.hasText(dollId) ? dollId.trim() : null;
+    }
 }
\ No newline at end of file
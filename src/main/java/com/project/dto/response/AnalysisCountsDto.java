@@ -0,0 +1,21 @@
+package com.project.dto.response;
+
+import com.project.domain.senior.AnalysisCounts;
+
+public record AnalysisCountsDto(
+        long positive,
+        long danger,
+        long critical,
+        long emergency
+) {
+    public static AnalysisCountsDto from(AnalysisCounts analysisCounts) {
+        if (analysisCounts == null)
+            return new AnalysisCountsDto(0, 0, 0, 0);
+        return new AnalysisCountsDto(
+                analysisCounts.getPositiveCount(),
+                analysisCounts.getDangerCount(),
+                analysisCounts.getCriticalCount(),
+                analysisCounts.getEmergencyCount()
+        );
+    }
+}
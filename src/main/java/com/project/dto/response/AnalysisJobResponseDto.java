@@ -0,0 +1,19 @@
+package com.project.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.project.domain.analysis.AnalysisJobStatus;
+
+public record AnalysisJobResponseDto(
+		String jobId,
+		String fileName,
+		AnalysisJobStatus status,
+		int attempts,
+		Long overallResultId,
+		List<Long> overallResultIds,
+		String error,
+		LocalDateTime requestedAt,
+		LocalDateTime completedAt
+) {
+}
@@ -1,10 +1,57 @@
 package com.project.dto.response;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.project.domain.analysis.ConfidenceScores;
+import com.project.domain.analysis.Dialogue;
+import com.project.domain.analysis.OverallResult;
+import com.project.dto.ConfidenceScoresDto;
+import com.project.dto.EvidenceDto;
+import com.project.dto.ReasonDto;
 
 public record AnalysisResponseWithIdDto(
 		Long id,
 		OverallResultPythonResponseDto overallResult,
 		List<DialogueAnalysisResponseDto> dialogueResult
 ) {
-}
\ No newline at end of file
+	public static AnalysisResponseWithIdDto from(OverallResult overallResult) {
+		String dollId = overallResult.getDoll().getId();
+		List<Dialogue> dialogues = overallResult.getDialogues();
+
+		List<DialogueAnalysisResponseDto> dialogueDtos = IntStream.range(0, dialogues.size())
+				.mapToObj(seq -> new DialogueAnalysisResponseDto(
+						(long) seq,
+						dollId,
+						dialogues.get(seq).getText(),
+						dialogues.get(seq).getUtteredAt(),
+						dialogues.get(seq).getLabel(),
+						toDto(dialogues.get(seq).getConfidenceScores())))
+				.collect(Collectors.toList());
+
+		List<String> texts = dialogueDtos.stream().map(DialogueAnalysisResponseDto::text).collect(Collectors.toList());
+		List<EvidenceDto> evidence = overallResult.getReason().getReasons().stream()
+				.map(reason -> new EvidenceDto(texts.indexOf(reason), reason, null))
+				.collect(Collectors.toList());
+		String fullText = String.join(" ", texts);
+
+		OverallResultPythonResponseDto overallDto = new OverallResultPythonResponseDto(
+				dollId,
+				dialogues.size(),
+				fullText.length(),
+				overallResult.getLabel(),
+				toDto(overallResult.getConfidenceScores()),
+				overallResult.getTreatmentPlan(),
+				fullText,
+				new ReasonDto(evidence, overallResult.getReason().getSummary()));
+
+		return new AnalysisResponseWithIdDto(overallResult.getId(), overallDto, dialogueDtos);
+	}
+
+	private static ConfidenceScoresDto toDto(ConfidenceScores scores) {
+		if (scores == null)
+			return null;
+		return new ConfidenceScoresDto(scores.getPositive(), scores.getDanger(), scores.getCritical(), scores.getEmergency());
+	}
+}
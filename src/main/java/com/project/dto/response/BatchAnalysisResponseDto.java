@@ -0,0 +1,13 @@
+package com.project.dto.response;
+
+import java.util.List;
+
+public record BatchAnalysisResponseDto(
+		List<AnalysisResponseWithIdDto> results,
+		List<DollAnalysisErrorDto> errors,
+		String jobId
+) {
+	public BatchAnalysisResponseDto withJobId(String jobId) {
+		return new BatchAnalysisResponseDto(results, errors, jobId);
+	}
+}
@@ -0,0 +1,24 @@
+package com.project.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageDto<T>(
+    List<T> content,
+    int size,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static final int MAX_SIZE = 100;
+
+    public static int limitOf(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+
+    public static <T> CursorPageDto<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageDto<>(content, content.size(), nextCursor, hasNext);
+    }
+}
\ No newline at end of file
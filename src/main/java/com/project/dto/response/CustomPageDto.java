@@ -1,16 +1,19 @@
 package com.project.dto.response;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public record CustomPageDto<T>(
     List<T> content,
     int pageNumber,
     int pageSize,
-    long totalElements,
-    int totalPages,
+    Long totalElements,
+    Integer totalPages,
     boolean isLast,
-    boolean isFirst
+    boolean isFirst,
+    boolean isTotalEstimated
 ) {
     public static <T> CustomPageDto<T> from(Page<T> page) {
         return new CustomPageDto<>(
@@ -20,7 +23,21 @@ public record CustomPageDto<T>(
             page.getTotalElements(),
             page.getTotalPages(),
             page.isLast(),
-            page.isFirst()
+            page.isFirst(),
+            false
+        );
+    }
+
+    public static <T> CustomPageDto<T> of(List<T> content, Pageable pageable, Long total, boolean estimated, boolean hasNext) {
+        return new CustomPageDto<>(
+            content,
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            total,
+            total != null ? (int) Math.ceil((double) total / pageable.getPageSize()) : null,
+            !hasNext,
+            pageable.getPageNumber() == 0,
+            estimated
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.project.dto.response;
+
+import java.util.List;
+
+public record DashboardBucketDto(
+        List<DashboardSeniorDto> seniors,
+        String nextCursor
+) {
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.project.dto.response;
 
 public record DashboardResponseDto(
+        long version,
         StateCountDto stateCount,
         SeniorsByStateDto seniorsByState
 ) {
@@ -0,0 +1,40 @@
+package com.project.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.project.domain.analysis.OverallResult;
+import com.project.domain.analysis.Risk;
+import com.project.search.DialogueSearchIndex.SearchHit;
+import com.project.search.SearchHitType;
+
+public record DialogueSearchResultDto(
+        SearchHitType type,
+        Long dialogueId,
+        String text,
+        LocalDateTime utteredAt,
+        float score,
+        Long overallResultId,
+        Risk label,
+        String summary,
+        LocalDateTime timestamp,
+        boolean isResolved,
+        Long seniorId,
+        String name
+) {
+    public static DialogueSearchResultDto of(SearchHit hit, OverallResult overallResult) {
+        return new DialogueSearchResultDto(
+                hit.type(),
+                hit.dialogueId(),
+                hit.text(),
+                hit.utteredAt(),
+                hit.score(),
+                overallResult.getId(),
+                overallResult.getLabel(),
+                overallResult.getReason() != null ? overallResult.getReason().getSummary() : null,
+                overallResult.getTimestamp(),
+                overallResult.isResolved(),
+                overallResult.getSenior().getId(),
+                overallResult.getSenior().getName()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.project.dto.response;
+
+public record DollAnalysisErrorDto(
+		String dollId,
+		String error,
+		boolean retryable
+) {
+}
@@ -13,13 +13,13 @@ public record NotificationResponseDto(
         boolean isRead,
         LocalDateTime createdAt
 ) {
-    public static NotificationResponseDto from(Notification notification) {
+    public static NotificationResponseDto from(Notification notification, boolean isRead) {
         return new NotificationResponseDto(
                 notification.getId(),
                 notification.getNotificationType(),
                 notification.getRelatedResourceId(),
                 notification.getMessage(),
-                notification.isRead(),
+                isRead,
                 notification.getCreatedAt()
         );
     }
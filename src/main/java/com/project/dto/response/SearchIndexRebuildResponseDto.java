@@ -0,0 +1,6 @@
+package com.project.dto.response;
+
+public record SearchIndexRebuildResponseDto(
+        long indexedCount
+) {
+}
\ No newline at end of file
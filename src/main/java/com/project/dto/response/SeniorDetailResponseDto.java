@@ -6,6 +6,7 @@ import com.project.domain.senior.Senior;
 import com.project.domain.senior.Sex;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public record SeniorDetailResponseDto(
@@ -30,6 +31,9 @@ public record SeniorDetailResponseDto(
 		String diseases, 
 		String medications,		
 		String diseaseNote,
+		LocalDateTime lastStateChangedAt,
+		Long latestOverallResultId,
+		AnalysisCountsDto analysisCounts,
         List<RecentOverallResultDto> recentOverallResults
 ) {
     public SeniorDetailResponseDto(Senior senior, List<RecentOverallResultDto> recentResults) {
@@ -55,6 +59,9 @@ public record SeniorDetailResponseDto(
             senior.getMedicalInfo().getDiseases(),
             senior.getMedicalInfo().getMedications(),            
             senior.getMedicalInfo().getDiseaseNote(),
+            senior.getLastStateChangedAt(),
+            senior.getLatestOverallResultId(),
+            AnalysisCountsDto.from(senior.getAnalysisCounts()),
             recentResults
         );
     }
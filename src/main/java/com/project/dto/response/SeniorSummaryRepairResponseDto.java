@@ -0,0 +1,6 @@
+package com.project.dto.response;
+
+public record SeniorSummaryRepairResponseDto(
+        int repairedCount
+) {
+}
\ No newline at end of file
@@ -1,11 +1,9 @@
 package com.project.dto.response;
 
-import java.util.List;
-
 public record SeniorsByStateDto(
-        List<DashboardSeniorDto> positive,
-        List<DashboardSeniorDto> danger,
-        List<DashboardSeniorDto> critical,
-        List<DashboardSeniorDto> emergency
+        DashboardBucketDto positive,
+        DashboardBucketDto danger,
+        DashboardBucketDto critical,
+        DashboardBucketDto emergency
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.project.dto.response;
+
+public record UnreadNotificationCountResponseDto(
+        long unreadCount
+) {
+}
\ No newline at end of file
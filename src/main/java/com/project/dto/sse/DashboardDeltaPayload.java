@@ -0,0 +1,16 @@
+package com.project.dto.sse;
+
+import com.project.domain.analysis.Risk;
+import com.project.dto.response.DashboardSeniorDto;
+import com.project.dto.response.StateCountDto;
+
+public record DashboardDeltaPayload(
+        long version,
+        DashboardDeltaType type,
+        Long seniorId,
+        Risk previousState,
+        Risk newState,
+        DashboardSeniorDto senior,
+        StateCountDto stateCount
+) {
+}
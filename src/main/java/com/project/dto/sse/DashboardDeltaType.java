@@ -0,0 +1,7 @@
+package com.project.dto.sse;
+
+public enum DashboardDeltaType {
+	UPSERTED,
+	REMOVED,
+	RESYNC
+}
@@ -13,13 +13,13 @@ public record SseNotificationPayload(
         boolean isRead,
         LocalDateTime createdAt
 ) {
-    public static SseNotificationPayload from(Notification notification) {
+    public static SseNotificationPayload from(Notification notification, boolean isRead) {
         return new SseNotificationPayload(
                 notification.getId(),
                 notification.getNotificationType(),
                 notification.getRelatedResourceId(),
                 notification.getMessage(),
-                notification.isRead(),
+                isRead,
                 notification.getCreatedAt()
         );
     }
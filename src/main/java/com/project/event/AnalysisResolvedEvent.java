@@ -0,0 +1,7 @@
+package com.project.event;
+
+public record AnalysisResolvedEvent(
+        Long seniorId,
+        Long overallResultId
+) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.project.event;
+
+public record MemberDeletedEvent(
+        String username
+) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.project.event;
+
+public record MemberRegisteredEvent(
+        String username
+) {
+}
\ No newline at end of file
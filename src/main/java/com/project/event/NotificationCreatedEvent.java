@@ -0,0 +1,8 @@
+package com.project.event;
+
+import com.project.dto.sse.SseNotificationPayload;
+
+public record NotificationCreatedEvent(
+        SseNotificationPayload payload
+) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.project.event;
+
+public record SeniorUpdatedEvent(
+        Long seniorId
+) {
+}
\ No newline at end of file
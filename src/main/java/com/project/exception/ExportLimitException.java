@@ -0,0 +1,9 @@
+package com.project.exception;
+
+public class ExportLimitException extends IllegalStateException {
+	private static final long serialVersionUID = 1L;
+
+	public ExportLimitException(String message) {
+		super(message);
+	}
+}
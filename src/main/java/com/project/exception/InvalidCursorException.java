@@ -0,0 +1,13 @@
+package com.project.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidCursorException(String message) {
+		super(message);
+	}
+
+	public InvalidCursorException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
\ No newline at end of file
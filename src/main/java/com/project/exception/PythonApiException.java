@@ -6,13 +6,23 @@ public class PythonApiException extends RuntimeException {
 	private static final long serialVersionUID = 1L;
 	
 	private final HttpStatus status;
+	private final boolean retryable;
 
     public PythonApiException(String message, HttpStatus status) {
+        this(message, status, true);
+    }
+
+    public PythonApiException(String message, HttpStatus status, boolean retryable) {
         super(message);
         this.status = status;
+        this.retryable = retryable;
     }
 
     public HttpStatus getStatus() {
         return status;
     }
-}
\ No newline at end of file
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.exception;
+
+public class SseConnectionLimitException extends IllegalStateException {
+	private static final long serialVersionUID = 1L;
+
+	public SseConnectionLimitException(String message) {
+		super(message);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.project.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.event.AnalysisDeletedEvent;
+import com.project.event.AnalysisResolvedEvent;
+import com.project.event.AnalysisSavedEvent;
+import com.project.event.SeniorDeletedEvent;
+import com.project.event.SeniorStateChangedEvent;
+import com.project.event.SeniorUpdatedEvent;
+import com.project.service.DashboardService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardProjectionListener {
+    private final DashboardService dashboardService;
+    private final ThreadPoolTaskExecutor projectionExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeProjection() {
+        try {
+            dashboardService.rebuild();
+        } catch (Exception e) {
+            log.error("대시보드 프로젝션 초기 구성 실패, 첫 조회 시 재시도", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorStateChangedEvent(SeniorStateChangedEvent event) {
+        refresh(event.senior().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorUpdatedEvent(SeniorUpdatedEvent event) {
+        refresh(event.seniorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorDeletedEvent(SeniorDeletedEvent event) {
+        projectionExecutor.execute(() -> dashboardService.removeSenior(event.seniorId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisSavedEvent(AnalysisSavedEvent event) {
+        refresh(event.seniorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisResolvedEvent(AnalysisResolvedEvent event) {
+        refresh(event.seniorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisDeletedEvent(AnalysisDeletedEvent event) {
+        refresh(event.seniorId());
+    }
+
+    // 저장 트랜잭션의 커넥션을 쥔 채 새 커넥션을 기다리지 않도록 별도 스레드에서 새 트랜잭션으로 다시 읽음
+    private void refresh(Long seniorId) {
+        if (seniorId == null)
+            return;
+        projectionExecutor.execute(() -> {
+            try {
+                dashboardService.refreshSenior(seniorId);
+            } catch (Exception e) {
+                log.error("대시보드 프로젝션 갱신 실패: seniorId={}, 전체 재구성이 필요할 수 있음", seniorId, e);
+            }
+        });
+    }
+}
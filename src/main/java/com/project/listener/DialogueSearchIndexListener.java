@@ -0,0 +1,66 @@
+package com.project.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.event.AnalysisDeletedEvent;
+import com.project.event.AnalysisSavedEvent;
+import com.project.event.SeniorDeletedEvent;
+import com.project.service.DialogueSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DialogueSearchIndexListener {
+    private final DialogueSearchService dialogueSearchService;
+    private final ThreadPoolTaskExecutor projectionExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        try {
+            dialogueSearchService.rebuildIfOutOfSync();
+        } catch (Exception e) {
+            log.error("전문 검색 색인 초기 구성 실패, 재구성 API로 다시 시도 필요", e);
+        }
+    }
+
+    // JDBC로 넣은 대화까지 읽도록 커밋 후 대시보드 갱신과 같은 스레드에서 새 트랜잭션으로 색인함
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisSavedEvent(AnalysisSavedEvent event) {
+        projectionExecutor.execute(() -> {
+            try {
+                dialogueSearchService.indexOverallResult(event.overallResultId());
+            } catch (Exception e) {
+                log.error("전문 검색 색인 추가 실패: overallResultId={}", event.overallResultId(), e);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisDeletedEvent(AnalysisDeletedEvent event) {
+        projectionExecutor.execute(() -> {
+            try {
+                dialogueSearchService.removeOverallResult(event.overallResultId());
+            } catch (Exception e) {
+                log.error("전문 검색 색인 삭제 실패: overallResultId={}", event.overallResultId(), e);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorDeletedEvent(SeniorDeletedEvent event) {
+        projectionExecutor.execute(() -> {
+            try {
+                dialogueSearchService.removeSenior(event.seniorId());
+            } catch (Exception e) {
+                log.error("전문 검색 색인 삭제 실패: seniorId={}", event.seniorId(), e);
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.project.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.event.NotificationCreatedEvent;
+import com.project.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatchListener {
+    private final NotificationService notificationService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleNotificationCreatedEvent(NotificationCreatedEvent event) {
+        notificationService.dispatch(event);
+    }
+}
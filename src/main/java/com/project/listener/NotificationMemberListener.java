@@ -0,0 +1,44 @@
+package com.project.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.event.MemberDeletedEvent;
+import com.project.event.MemberRegisteredEvent;
+import com.project.event.MemberUpdatedEvent;
+import com.project.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationMemberListener {
+    private final NotificationService notificationService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberRegisteredEvent(MemberRegisteredEvent event) {
+        notificationService.invalidateAdminRoster();
+        try {
+            notificationService.initializeReadState(event.username());
+        } catch (Exception e) {
+            log.error("신규 회원 알림 읽음 상태 생성 실패: username={}", event.username(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberUpdatedEvent(MemberUpdatedEvent event) {
+        notificationService.invalidateAdminRoster();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberDeletedEvent(MemberDeletedEvent event) {
+        notificationService.invalidateAdminRoster();
+        try {
+            notificationService.deleteReadState(event.username());
+        } catch (Exception e) {
+            log.error("삭제된 회원 알림 읽음 상태 정리 실패: username={}", event.username(), e);
+        }
+    }
+}
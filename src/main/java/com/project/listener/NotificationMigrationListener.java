@@ -0,0 +1,26 @@
+package com.project.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.project.service.NotificationMigrationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationMigrationListener {
+    private final NotificationMigrationService notificationMigrationService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyNotifications() {
+        try {
+            notificationMigrationService.migrateLegacyNotifications();
+        } catch (Exception e) {
+            log.error("이전 알림 테이블 이관 실패, 다음 기동 시 재시도", e);
+        }
+    }
+}
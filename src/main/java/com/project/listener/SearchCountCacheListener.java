@@ -0,0 +1,46 @@
+package com.project.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.event.AnalysisDeletedEvent;
+import com.project.event.AnalysisSavedEvent;
+import com.project.event.SeniorDeletedEvent;
+import com.project.event.SeniorStateChangedEvent;
+import com.project.event.SeniorUpdatedEvent;
+import com.project.service.SearchCountService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SearchCountCacheListener {
+    private final SearchCountService searchCountService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisSavedEvent(AnalysisSavedEvent event) {
+        searchCountService.invalidate(SearchCountService.OVERALL_RESULTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleAnalysisDeletedEvent(AnalysisDeletedEvent event) {
+        searchCountService.invalidate(SearchCountService.OVERALL_RESULTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorStateChangedEvent(SeniorStateChangedEvent event) {
+        searchCountService.invalidate(SearchCountService.SENIORS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorUpdatedEvent(SeniorUpdatedEvent event) {
+        searchCountService.invalidate(SearchCountService.SENIORS);
+        searchCountService.invalidate(SearchCountService.OVERALL_RESULTS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorDeletedEvent(SeniorDeletedEvent event) {
+        searchCountService.invalidate(SearchCountService.SENIORS);
+        searchCountService.invalidate(SearchCountService.OVERALL_RESULTS);
+    }
+}
\ No newline at end of file
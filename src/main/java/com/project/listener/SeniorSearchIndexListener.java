@@ -0,0 +1,66 @@
+package com.project.listener;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.project.domain.senior.Senior;
+import com.project.event.SeniorDeletedEvent;
+import com.project.event.SeniorStateChangedEvent;
+import com.project.event.SeniorUpdatedEvent;
+import com.project.persistence.SeniorRepository;
+import com.project.search.SeniorAutocompleteIndex;
+import com.project.search.SeniorSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeniorSearchIndexListener {
+    private final SeniorSearchIndex seniorSearchIndex;
+    private final SeniorAutocompleteIndex seniorAutocompleteIndex;
+    private final SeniorRepository seniorRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        try {
+            List<Senior> seniors = seniorRepository.findAllWithDoll();
+            seniorSearchIndex.rebuild(seniors);
+            seniorAutocompleteIndex.rebuild(seniors);
+        } catch (Exception e) {
+            log.error("시니어 검색 색인 초기 구성 실패, LIKE 검색으로 대체", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorStateChangedEvent(SeniorStateChangedEvent event) {
+        refresh(event.senior().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorUpdatedEvent(SeniorUpdatedEvent event) {
+        refresh(event.seniorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSeniorDeletedEvent(SeniorDeletedEvent event) {
+        remove(event.seniorId());
+    }
+
+    private void refresh(Long seniorId) {
+        seniorRepository.findByIdWithDoll(seniorId).ifPresentOrElse(senior -> {
+            seniorSearchIndex.index(senior);
+            seniorAutocompleteIndex.index(senior);
+        }, () -> remove(seniorId));
+    }
+
+    private void remove(Long seniorId) {
+        seniorSearchIndex.remove(seniorId);
+        seniorAutocompleteIndex.remove(seniorId);
+    }
+}
\ No newline at end of file
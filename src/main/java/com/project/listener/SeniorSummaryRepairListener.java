@@ -0,0 +1,38 @@
+package com.project.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.project.persistence.OverallResultRepository;
+import com.project.persistence.SeniorRepository;
+import com.project.service.SeniorService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeniorSummaryRepairListener {
+    private final SeniorService seniorService;
+    private final SeniorRepository seniorRepository;
+    private final OverallResultRepository overallResultRepository;
+
+    // 요약 컬럼이 추가되기 전의 데이터가 남아 있으면 대시보드/검색 색인 구성보다 먼저 채워 넣음
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillSummaries() {
+        try {
+            if (seniorRepository.existsByLastStateChangedAtIsNull()
+                    || overallResultRepository.existsBySeniorLatestOverallResultIdIsNull()) {
+                log.info("초기화되지 않은 시니어 분석 요약 정보 발견, 재구성 실행");
+                seniorService.repairAnalysisSummaries();
+            }
+        } catch (Exception e) {
+            log.error("시니어 분석 요약 정보 초기 재구성 실패, 예약된 재구성 시 재시도", e);
+        }
+    }
+}
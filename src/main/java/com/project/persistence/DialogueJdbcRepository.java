@@ -0,0 +1,43 @@
+package com.project.persistence;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.project.dto.ConfidenceScoresDto;
+import com.project.dto.response.DialogueAnalysisResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DialogueJdbcRepository {
+    private static final String INSERT_SQL = "INSERT INTO dialogue "
+            + "(overall_result_id, text, uttered_at, label, positive, danger, critical, emergency) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${analysis.persistence.batch-size:500}")
+    private int batchSize;
+
+    public void batchInsert(Long overallResultId, List<DialogueAnalysisResponseDto> dialogues) {
+        if (dialogues == null || dialogues.isEmpty())
+            return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, dialogues, batchSize, (ps, dialogue) -> {
+            ps.setLong(1, overallResultId);
+            ps.setString(2, dialogue.text());
+            ps.setTimestamp(3, dialogue.utteredAt() == null ? null : Timestamp.valueOf(dialogue.utteredAt()));
+            ps.setString(4, dialogue.label() == null ? null : dialogue.label().name());
+            ConfidenceScoresDto scores = dialogue.confidenceScores();
+            ps.setObject(5, scores == null ? null : scores.positive(), Types.DOUBLE);
+            ps.setObject(6, scores == null ? null : scores.danger(), Types.DOUBLE);
+            ps.setObject(7, scores == null ? null : scores.critical(), Types.DOUBLE);
+            ps.setObject(8, scores == null ? null : scores.emergency(), Types.DOUBLE);
+        });
+    }
+}
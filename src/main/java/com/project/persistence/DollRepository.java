@@ -1,17 +1,28 @@
 package com.project.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import com.project.domain.senior.Doll;
 
+import jakarta.persistence.LockModeType;
+
 public interface DollRepository extends JpaRepository<Doll, String>{
 	@Query("SELECT d FROM Doll d LEFT JOIN FETCH d.senior WHERE d.id = :id")
     Optional<Doll> findByIdWithSenior(String id);
 
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM Doll d LEFT JOIN FETCH d.senior WHERE d.id = :id")
+    Optional<Doll> findByIdWithSeniorForUpdate(String id);
+
     @Query("SELECT d FROM Doll d LEFT JOIN FETCH d.senior")
     List<Doll> findAllWithSenior();
+
+    @Query("SELECT d FROM Doll d LEFT JOIN FETCH d.senior WHERE d.id IN :ids")
+    List<Doll> findAllByIdInWithSenior(Collection<String> ids);
 }
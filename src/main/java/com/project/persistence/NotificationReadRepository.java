@@ -0,0 +1,27 @@
+package com.project.persistence;
+
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.project.domain.notification.NotificationRead;
+
+public interface NotificationReadRepository extends JpaRepository<NotificationRead, Long> {
+	boolean existsByUsernameAndNotificationId(String username, Long notificationId);
+
+	long countByUsernameAndNotificationIdGreaterThan(String username, Long notificationId);
+
+	@Query("SELECT r.notificationId FROM NotificationRead r WHERE r.username = :username AND r.notificationId > :after")
+	Set<Long> findNotificationIdsAfter(@Param("username") String username, @Param("after") Long after);
+
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM NotificationRead r WHERE r.username = :username AND r.notificationId <= :upTo")
+	void deleteUpTo(@Param("username") String username, @Param("upTo") Long upTo);
+
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM NotificationRead r WHERE r.username = :username")
+	void deleteAllByUsername(@Param("username") String username);
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.project.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.project.domain.notification.NotificationReadState;
+
+public interface NotificationReadStateRepository extends JpaRepository<NotificationReadState, String> {
+}
\ No newline at end of file
@@ -1,9 +1,10 @@
 package com.project.persistence;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,10 +26,31 @@ public interface OverallResultRepository extends JpaRepository<OverallResult, Lo
     
     List<OverallResult> findTop5BySeniorIdOrderByTimestampDesc(Long seniorId);
     
-    boolean existsBySeniorIdAndTimestampAfter(Long seniorId, LocalDateTime timestamp);
+    Optional<OverallResult> findFirstBySeniorIdAndIdNotOrderByTimestampDescIdDesc(Long seniorId, Long id);
+    
+    Optional<OverallResult> findFirstByDollIdAndContentHashOrderByIdDesc(String dollId, String contentHash);
     
     @Query("SELECT o FROM OverallResult o WHERE o.id IN " +
            "(SELECT o2.id FROM OverallResult o2 WHERE o2.timestamp = " +
            "(SELECT MAX(o3.timestamp) FROM OverallResult o3 WHERE o3.senior = o2.senior))")
     List<OverallResult> findLatestOverallResultForEachSenior();
+
+    Optional<OverallResult> findFirstBySeniorIdOrderByTimestampDescIdDesc(Long seniorId);
+
+    @Query("SELECT o.label, COUNT(o.id) FROM OverallResult o WHERE o.senior.id = :seniorId GROUP BY o.label")
+    List<Object[]> countResultsByLabelForSenior(@Param("seniorId") Long seniorId);
+
+    boolean existsBySeniorLatestOverallResultIdIsNull();
+
+    @Query("SELECT o.id FROM OverallResult o WHERE o.id > :after ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT DISTINCT o FROM OverallResult o " +
+            "JOIN FETCH o.senior s " +
+            "LEFT JOIN FETCH o.dialogues " +
+            "WHERE o.id IN :ids")
+    List<OverallResult> findAllWithDialoguesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o FROM OverallResult o JOIN FETCH o.senior s WHERE o.id IN :ids")
+    List<OverallResult> findAllWithSeniorByIdIn(@Param("ids") Collection<Long> ids);
 }
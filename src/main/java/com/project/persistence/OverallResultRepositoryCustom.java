@@ -1,11 +1,20 @@
 package com.project.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.stream.Stream;
 
 import com.project.dto.request.OverallResultSearchCondition;
 import com.project.dto.response.OverallResultListResponseDto;
+import com.project.util.CursorUtil;
 
 public interface OverallResultRepositoryCustom {
-    Page<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, Pageable pageable);
+    List<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, long offset, int limit);
+
+    long countOverallResults(OverallResultSearchCondition condition);
+
+    Stream<OverallResultListResponseDto> streamOverallResults(OverallResultSearchCondition condition, int fetchSize);
+
+    long estimateOverallResultCount();
+
+    List<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, CursorUtil.Cursor after, int limit);
 }
\ No newline at end of file
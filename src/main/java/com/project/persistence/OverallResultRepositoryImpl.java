@@ -8,10 +8,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.util.StringUtils;
 
 import com.project.domain.analysis.Risk;
@@ -21,7 +21,12 @@ import com.project.domain.senior.Sex;
 import com.project.dto.request.OverallResultSearchCondition;
 import com.project.dto.response.OverallResultListResponseDto;
 import com.project.dto.response.QOverallResultListResponseDto;
+import com.project.search.SeniorSearchIndex;
+import com.project.util.CursorUtil;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -29,10 +34,63 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OverallResultRepositoryImpl implements OverallResultRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final SeniorSearchIndex seniorSearchIndex;
 
     @Override
-    public Page<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, Pageable pageable) {
-        List<OverallResultListResponseDto> content = queryFactory
+    public List<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, long offset, int limit) {
+        return selectOverallResults(condition)
+                .orderBy(overallResult.timestamp.desc(), overallResult.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countOverallResults(OverallResultSearchCondition condition) {
+        Long total = queryFactory
+                .select(overallResult.count())
+                .from(overallResult)
+                .join(overallResult.senior, senior)
+                .join(overallResult.doll, doll)
+                .where(searchConditions(condition))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public Stream<OverallResultListResponseDto> streamOverallResults(OverallResultSearchCondition condition, int fetchSize) {
+        return selectOverallResults(condition)
+                .orderBy(overallResult.timestamp.desc(), overallResult.id.desc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    public long estimateOverallResultCount() {
+        Long total = queryFactory
+                .select(senior.analysisCounts.positiveCount
+                        .add(senior.analysisCounts.dangerCount)
+                        .add(senior.analysisCounts.criticalCount)
+                        .add(senior.analysisCounts.emergencyCount)
+                        .sum())
+                .from(senior)
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public List<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition,
+    		CursorUtil.Cursor after, int limit) {
+        return selectOverallResults(condition)
+                .where(after(after))
+                .orderBy(overallResult.timestamp.desc(), overallResult.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<OverallResultListResponseDto> selectOverallResults(OverallResultSearchCondition condition) {
+        return queryFactory
                 .select(new QOverallResultListResponseDto(
                         overallResult.id,
                         overallResult.label,
@@ -50,41 +108,32 @@ public class OverallResultRepositoryImpl implements OverallResultRepositoryCusto
                 .from(overallResult)
                 .join(overallResult.senior, senior)
                 .join(overallResult.doll, doll)
-                .where(
-                        seniorIdEq(condition.getSeniorId()),
-                        nameContains(condition.getName()),
-                        sexEq(condition.getSex()),
-                        guEq(condition.getGu()),
-                        dongEq(condition.getDong()),
-                        ageGroupEq(condition.getAgeGroup()),
-                        dollIdEq(condition.getDollId()),
-                        labelEq(condition.getLabel()),
-                        timestampBetween(condition.getStartDate(), condition.getEndDate())
-                )
-                .orderBy(overallResult.timestamp.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .where(searchConditions(condition));
+    }
 
-        Long total = queryFactory
-                .select(overallResult.count())
-                .from(overallResult)
-                .join(overallResult.senior, senior)
-                .join(overallResult.doll, doll)
-                .where(
-                        seniorIdEq(condition.getSeniorId()),
-                        nameContains(condition.getName()),
-                        sexEq(condition.getSex()),
-                        guEq(condition.getGu()),
-                        dongEq(condition.getDong()),
-                        ageGroupEq(condition.getAgeGroup()),
-                        dollIdEq(condition.getDollId()),
-                        labelEq(condition.getLabel()),
-                        timestampBetween(condition.getStartDate(), condition.getEndDate())
-                )
-                .fetchOne();
+    private Predicate[] searchConditions(OverallResultSearchCondition condition) {
+        return new Predicate[] {
+                seniorIdEq(condition.getSeniorId()),
+                nameContains(condition.getName()),
+                sexEq(condition.getSex()),
+                guEq(condition.getGu()),
+                dongEq(condition.getDong()),
+                ageGroupEq(condition.getAgeGroup()),
+                dollIdEq(condition.getDollId()),
+                labelEq(condition.getLabel()),
+                timestampBetween(condition.getStartDate(), condition.getEndDate())
+        };
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    private BooleanExpression after(CursorUtil.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.timestamp() == null) {
+            return overallResult.id.lt(cursor.id());
+        }
+        return overallResult.timestamp.lt(cursor.timestamp())
+                .or(overallResult.timestamp.eq(cursor.timestamp()).and(overallResult.id.lt(cursor.id())));
     }
 
     private BooleanExpression labelEq(Risk label) {
@@ -106,7 +155,12 @@ public class OverallResultRepositoryImpl implements OverallResultRepositoryCusto
     }
 
     private BooleanExpression nameContains(String name) {
-        return StringUtils.hasText(name) ? senior.name.contains(name) : null;
+        if (!StringUtils.hasText(name))
+            return null;
+        Set<Long> seniorIds = seniorSearchIndex.findByName(name);
+        if (seniorIds == null)
+            return senior.name.contains(name);
+        return seniorIds.isEmpty() ? Expressions.FALSE.isTrue() : senior.id.in(seniorIds);
     }
     
     private BooleanExpression sexEq(Sex sex) {
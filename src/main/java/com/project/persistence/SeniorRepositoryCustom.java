@@ -2,9 +2,17 @@ package com.project.persistence;
 
 import com.project.dto.request.SeniorSearchCondition;
 import com.project.dto.response.SeniorListResponseDto;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.project.util.CursorUtil;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface SeniorRepositoryCustom {
-    Page<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, Pageable pageable);
+    List<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, long offset, int limit);
+
+    long countSeniors(SeniorSearchCondition condition);
+
+    Stream<SeniorListResponseDto> streamSeniors(SeniorSearchCondition condition, int fetchSize);
+
+    List<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, CursorUtil.Cursor after, int limit);
 }
\ No newline at end of file
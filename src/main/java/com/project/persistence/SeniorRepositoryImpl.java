@@ -5,10 +5,10 @@ import static com.project.domain.senior.QSenior.senior;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.util.StringUtils;
 
 import com.project.domain.analysis.Risk;
@@ -18,7 +18,12 @@ import com.project.domain.senior.Sex;
 import com.project.dto.request.SeniorSearchCondition;
 import com.project.dto.response.QSeniorListResponseDto;
 import com.project.dto.response.SeniorListResponseDto;
+import com.project.search.SeniorSearchIndex;
+import com.project.util.CursorUtil;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -26,10 +31,48 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SeniorRepositoryImpl implements SeniorRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final SeniorSearchIndex seniorSearchIndex;
 
     @Override
-    public Page<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, Pageable pageable) {
-        List<SeniorListResponseDto> content = queryFactory
+    public List<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, long offset, int limit) {
+        return selectSeniors(condition)
+                .orderBy(senior.createdAt.desc(), senior.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countSeniors(SeniorSearchCondition condition) {
+        Long total = queryFactory
+                .select(senior.count())
+                .from(senior)
+                .leftJoin(senior.doll, doll)
+                .where(searchConditions(condition))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public Stream<SeniorListResponseDto> streamSeniors(SeniorSearchCondition condition, int fetchSize) {
+        return selectSeniors(condition)
+                .orderBy(senior.createdAt.desc(), senior.id.desc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    public List<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, CursorUtil.Cursor after, int limit) {
+        return selectSeniors(condition)
+                .where(after(after))
+                .orderBy(senior.createdAt.desc(), senior.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<SeniorListResponseDto> selectSeniors(SeniorSearchCondition condition) {
+        return queryFactory
                 .select(new QSeniorListResponseDto(
                         senior.id,
                         senior.name,
@@ -44,40 +87,33 @@ public class SeniorRepositoryImpl implements SeniorRepositoryCustom {
                 ))
                 .from(senior)
                 .leftJoin(senior.doll, doll)
-                .where(
-                        seniorIdEq(condition.getSeniorId()),
-                        nameContains(condition.getName()),
-                        phoneContains(condition.getPhone()),
-                        sexEq(condition.getSex()),
-                        guEq(condition.getGu()),
-                        dongEq(condition.getDong()),
-                        stateEq(condition.getState()),
-                        dollIdEq(condition.getDollId()),
-                        ageGroupEq(condition.getAgeGroup())
-                )
-                .orderBy(senior.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        
-        Long total = queryFactory
-                .select(senior.count())
-                .from(senior)
-                .leftJoin(senior.doll, doll)
-                .where(
-                        seniorIdEq(condition.getSeniorId()),
-                        nameContains(condition.getName()),
-                        phoneContains(condition.getPhone()),
-                        sexEq(condition.getSex()),
-                        guEq(condition.getGu()),
-                        dongEq(condition.getDong()),
-                        stateEq(condition.getState()),
-                        dollIdEq(condition.getDollId()),
-                        ageGroupEq(condition.getAgeGroup())
-                )
-                .fetchOne();
+                .where(searchConditions(condition));
+    }
+
+    private Predicate[] searchConditions(SeniorSearchCondition condition) {
+        return new Predicate[] {
+                seniorIdEq(condition.getSeniorId()),
+                nameContains(condition.getName()),
+                phoneContains(condition.getPhone()),
+                guardianPhoneContains(condition.getGuardianPhone()),
+                sexEq(condition.getSex()),
+                guEq(condition.getGu()),
+                dongEq(condition.getDong()),
+                stateEq(condition.getState()),
+                dollIdEq(condition.getDollId()),
+                ageGroupEq(condition.getAgeGroup())
+        };
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    private BooleanExpression after(CursorUtil.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.timestamp() == null) {
+            return senior.id.lt(cursor.id());
+        }
+        return senior.createdAt.lt(cursor.timestamp())
+                .or(senior.createdAt.eq(cursor.timestamp()).and(senior.id.lt(cursor.id())));
     }
 
     private BooleanExpression seniorIdEq(Long seniorId) {
@@ -85,11 +121,27 @@ public class SeniorRepositoryImpl implements SeniorRepositoryCustom {
     }
 
     private BooleanExpression nameContains(String name) {
-        return StringUtils.hasText(name) ? senior.name.contains(name) : null;
+        if (!StringUtils.hasText(name))
+            return null;
+        return seniorIdIn(seniorSearchIndex.findByName(name), senior.name.contains(name));
     }
     
     private BooleanExpression phoneContains(String phone) {
-        return StringUtils.hasText(phone) ? senior.phone.contains(phone) : null;
+        if (!StringUtils.hasText(phone))
+            return null;
+        return seniorIdIn(seniorSearchIndex.findByPhone(phone), senior.phone.contains(phone));
+    }
+
+    private BooleanExpression guardianPhoneContains(String guardianPhone) {
+        if (!StringUtils.hasText(guardianPhone))
+            return null;
+        return seniorIdIn(seniorSearchIndex.findByGuardianPhone(guardianPhone), senior.guardian.guardianPhone.contains(guardianPhone));
+    }
+
+    private BooleanExpression seniorIdIn(Set<Long> seniorIds, BooleanExpression fallback) {
+        if (seniorIds == null)
+            return fallback;
+        return seniorIds.isEmpty() ? Expressions.FALSE.isTrue() : senior.id.in(seniorIds);
     }
 
     private BooleanExpression sexEq(Sex sex) {
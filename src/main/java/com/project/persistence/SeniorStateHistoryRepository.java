@@ -1,9 +1,12 @@
 package com.project.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.project.domain.senior.SeniorStateHistory;
 
@@ -12,4 +15,7 @@ public interface SeniorStateHistoryRepository extends JpaRepository<SeniorStateH
 
 	@Query("SELECT h.senior.id, MAX(h.changedAt) FROM SeniorStateHistory h GROUP BY h.senior.id")
     List<Object[]> findLatestStateChangeTimestampForEachSenior();	
+
+	@Query("SELECT MAX(h.changedAt) FROM SeniorStateHistory h WHERE h.senior.id = :seniorId")
+	Optional<LocalDateTime> findLatestStateChangeTimestamp(@Param("seniorId") Long seniorId);
 }
@@ -0,0 +1,219 @@
+package com.project.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.domain.analysis.Dialogue;
+import com.project.domain.analysis.OverallResult;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DialogueSearchIndex {
+    private static final String TYPE = "type";
+    private static final String TEXT = "text";
+    private static final String DIALOGUE_ID = "dialogue_id";
+    private static final String OVERALL_RESULT_ID = "overall_result_id";
+    private static final String SENIOR_ID = "senior_id";
+    private static final String UTTERED_AT = "uttered_at";
+    private static final float PHRASE_BOOST = 2.0f;
+
+    @Value("${search.fulltext.index-path:./data/search-index/}")
+    private Path indexPath;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(indexPath);
+        analyzer = new KoreanAnalyzer();
+        directory = FSDirectory.open(indexPath);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    public void index(OverallResult overallResult) {
+        String overallResultId = String.valueOf(overallResult.getId());
+        String seniorId = String.valueOf(overallResult.getSenior().getId());
+
+        List<Document> documents = new ArrayList<>();
+        Document summary = document(SearchHitType.SUMMARY, overallResultId, seniorId,
+                overallResult.getReason() != null ? overallResult.getReason().getSummary() : null);
+        documents.add(summary);
+        for (Dialogue dialogue : overallResult.getDialogues()) {
+            Document document = document(SearchHitType.DIALOGUE, overallResultId, seniorId, dialogue.getText());
+            document.add(new StringField(DIALOGUE_ID, String.valueOf(dialogue.getId()), Field.Store.YES));
+            if (dialogue.getUtteredAt() != null)
+                document.add(new StoredField(UTTERED_AT, dialogue.getUtteredAt().toString()));
+            documents.add(document);
+        }
+
+        try {
+            writer.updateDocuments(new Term(OVERALL_RESULT_ID, overallResultId), documents);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteByOverallResult(Long overallResultId) {
+        delete(new Term(OVERALL_RESULT_ID, String.valueOf(overallResultId)));
+    }
+
+    public void deleteBySenior(Long seniorId) {
+        delete(new Term(SENIOR_ID, String.valueOf(seniorId)));
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long countOverallResults() {
+        return withSearcher(searcher -> (long) searcher.count(new TermQuery(new Term(TYPE, SearchHitType.SUMMARY.name()))));
+    }
+
+    public SearchResult search(String queryText, SearchHitType type, Long seniorId, int offset, int size) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query terms = builder.createBooleanQuery(TEXT, queryText, BooleanClause.Occur.MUST);
+        if (terms == null)
+            return new SearchResult(List.of(), 0, false);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(terms, BooleanClause.Occur.MUST);
+        Query phrase = builder.createPhraseQuery(TEXT, queryText);
+        if (phrase != null)
+            query.add(new BoostQuery(phrase, PHRASE_BOOST), BooleanClause.Occur.SHOULD);
+        if (type != null)
+            query.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        if (seniorId != null)
+            query.add(new TermQuery(new Term(SENIOR_ID, String.valueOf(seniorId))), BooleanClause.Occur.FILTER);
+
+        return withSearcher(searcher -> {
+            TopDocs topDocs = searcher.search(query.build(), offset + size);
+            List<SearchHit> hits = new ArrayList<>(size);
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                hits.add(toHit(searcher.storedFields().document(scoreDoc.doc), scoreDoc.score));
+            }
+            return new SearchResult(hits, topDocs.totalHits.value,
+                    topDocs.totalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${search.fulltext.commit-interval:PT10S}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges())
+                writer.commit();
+        } catch (IOException e) {
+            log.error("전문 검색 색인 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    private void delete(Term term) {
+        try {
+            writer.deleteDocuments(term);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document document(SearchHitType type, String overallResultId, String seniorId, String text) {
+        Document document = new Document();
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new StringField(OVERALL_RESULT_ID, overallResultId, Field.Store.YES));
+        document.add(new StringField(SENIOR_ID, seniorId, Field.Store.YES));
+        document.add(new TextField(TEXT, text != null ? text : "", Field.Store.YES));
+        return document;
+    }
+
+    private SearchHit toHit(Document document, float score) {
+        String dialogueId = document.get(DIALOGUE_ID);
+        String utteredAt = document.get(UTTERED_AT);
+        return new SearchHit(
+                SearchHitType.valueOf(document.get(TYPE)),
+                dialogueId != null ? Long.valueOf(dialogueId) : null,
+                Long.valueOf(document.get(OVERALL_RESULT_ID)),
+                Long.valueOf(document.get(SENIOR_ID)),
+                document.get(TEXT),
+                utteredAt != null ? LocalDateTime.parse(utteredAt) : null,
+                score);
+    }
+
+    private <T> T withSearcher(SearcherFunction<T> function) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return function.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SearcherFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+
+    public record SearchHit(SearchHitType type, Long dialogueId, Long overallResultId, Long seniorId, String text,
+            LocalDateTime utteredAt, float score) {
+    }
+
+    public record SearchResult(List<SearchHit> hits, long totalHits, boolean totalEstimated) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.project.search;
+
+public class Hangul {
+    public static final char SYLLABLE_BEGIN = '가';
+    public static final char SYLLABLE_END = '힣';
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final int CHOSUNG_BLOCK = 21 * 28;
+    private static final int JUNGSUNG_BLOCK = 28;
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+
+    public static boolean hasJongsung(char syllable) {
+        return (syllable - SYLLABLE_BEGIN) % JUNGSUNG_BLOCK != 0;
+    }
+
+    public static char chosungOf(char c) {
+        return isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_BEGIN) / CHOSUNG_BLOCK) : c;
+    }
+
+    public static char firstSyllableWithChosung(char chosung) {
+        return (char) (SYLLABLE_BEGIN + CHOSUNG.indexOf(chosung) * CHOSUNG_BLOCK);
+    }
+
+    public static char lastSyllableWithChosung(char chosung) {
+        return (char) (firstSyllableWithChosung(chosung) + CHOSUNG_BLOCK - 1);
+    }
+
+    public static char lastSyllableWithSameVowel(char syllable) {
+        int offset = syllable - SYLLABLE_BEGIN;
+        return (char) (SYLLABLE_BEGIN + offset - offset % JUNGSUNG_BLOCK + JUNGSUNG_BLOCK - 1);
+    }
+}
\ No newline at end of file
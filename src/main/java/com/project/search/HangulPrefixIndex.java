@@ -0,0 +1,106 @@
+package com.project.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class HangulPrefixIndex {
+    private final Node root = new Node();
+    private final Map<Long, String> keys = new ConcurrentHashMap<>();
+
+    public synchronized void put(Long id, String value) {
+        remove(id);
+        String key = value != null ? normalize(value) : "";
+        if (key.isEmpty())
+            return;
+        keys.put(id, key);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.ids.add(id);
+    }
+
+    public synchronized void remove(Long id) {
+        String previous = keys.remove(id);
+        if (previous == null)
+            return;
+        Node[] path = new Node[previous.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < previous.length(); i++) {
+            path[i + 1] = path[i].children.get(previous.charAt(i));
+            if (path[i + 1] == null)
+                return;
+        }
+        path[previous.length()].ids.remove(id);
+        // 이름이 바뀌거나 삭제될 때마다 빈 노드가 남지 않도록 올라가며 정리
+        for (int i = previous.length(); i > 0 && path[i].ids.isEmpty() && path[i].children.isEmpty(); i--) {
+            path[i - 1].children.remove(previous.charAt(i - 1), path[i]);
+        }
+    }
+
+    public synchronized void clear() {
+        root.children.clear();
+        keys.clear();
+    }
+
+    public List<Long> search(String query, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        String normalized = normalize(query);
+        if (!normalized.isEmpty())
+            collect(root, normalized, 0, limit, ids);
+        return ids;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private void collect(Node node, String query, int position, int limit, List<Long> ids) {
+        if (position == query.length()) {
+            collectAll(node, limit, ids);
+            return;
+        }
+        for (Node child : matchingChildren(node, query.charAt(position), position == query.length() - 1).values()) {
+            if (ids.size() >= limit)
+                return;
+            collect(child, query, position + 1, limit, ids);
+        }
+    }
+
+    private void collectAll(Node node, int limit, List<Long> ids) {
+        for (Long id : node.ids) {
+            if (ids.size() >= limit)
+                return;
+            ids.add(id);
+        }
+        for (Node child : node.children.values()) {
+            if (ids.size() >= limit)
+                return;
+            collectAll(child, limit, ids);
+        }
+    }
+
+    private NavigableMap<Character, Node> matchingChildren(Node node, char c, boolean last) {
+        if (Hangul.isChosung(c))
+            return node.children.subMap(Hangul.firstSyllableWithChosung(c), true, Hangul.lastSyllableWithChosung(c), true);
+        if (last && Hangul.isSyllable(c) && !Hangul.hasJongsung(c))
+            return node.children.subMap(c, true, Hangul.lastSyllableWithSameVowel(c), true);
+        return node.children.subMap(c, true, c, true);
+    }
+
+    private static String normalize(String value) {
+        return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private final ConcurrentSkipListMap<Character, Node> children = new ConcurrentSkipListMap<>();
+        private final Set<Long> ids = new ConcurrentSkipListSet<>();
+    }
+}
\ No newline at end of file
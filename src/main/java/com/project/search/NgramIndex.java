@@ -0,0 +1,82 @@
+package com.project.search;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+public class NgramIndex {
+    private final int gramSize;
+    private final UnaryOperator<String> normalizer;
+    private final Map<Long, String> values = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public NgramIndex(int gramSize, UnaryOperator<String> normalizer) {
+        this.gramSize = gramSize;
+        this.normalizer = normalizer;
+    }
+
+    public synchronized void put(Long id, String value) {
+        remove(id);
+        String normalized = value != null ? normalizer.apply(value) : "";
+        if (normalized.isEmpty())
+            return;
+        values.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        String previous = values.remove(id);
+        if (previous == null)
+            return;
+        for (String gram : grams(previous)) {
+            postings.computeIfPresent(gram, (g, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        values.clear();
+        postings.clear();
+    }
+
+    public Set<Long> search(String term) {
+        String normalized = normalizer.apply(term);
+        if (normalized.length() < gramSize)
+            return null;
+
+        Set<Long> candidates = null;
+        for (String gram : grams(normalized)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null)
+                return Set.of();
+            if (candidates == null || ids.size() < candidates.size())
+                candidates = ids;
+        }
+
+        Set<Long> matches = new HashSet<>();
+        for (Long id : candidates) {
+            String value = values.get(id);
+            if (value != null && value.contains(normalized))
+                matches.add(id);
+        }
+        return matches;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + gramSize <= value.length(); i++) {
+            grams.add(value.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.project.search;
+
+public enum SearchHitType {
+	DIALOGUE,
+	SUMMARY;
+
+    public static SearchHitType from(String value) {
+        String upperValue = value.toUpperCase();
+        for (SearchHitType type : SearchHitType.values()) {
+            if (type.name().equals(upperValue)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 검색 대상 값입니다: " + value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.project.search;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.project.domain.analysis.Risk;
+import com.project.domain.senior.Beopjeongdong;
+import com.project.domain.senior.Gu;
+import com.project.domain.senior.Senior;
+import com.project.domain.senior.Sex;
+import com.project.dto.response.SeniorListResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SeniorAutocompleteIndex {
+    private final HangulPrefixIndex names = new HangulPrefixIndex();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public synchronized void rebuild(Collection<Senior> seniors) {
+        names.clear();
+        entries.clear();
+        seniors.forEach(this::index);
+        log.info("시니어 자동완성 색인 재구성 완료: seniorCount={}", entries.size());
+    }
+
+    public void index(Senior senior) {
+        entries.put(senior.getId(), new Entry(senior.getId(), senior.getName(), senior.getBirthDate(), senior.getSex(),
+                senior.getAddress().getGu(), senior.getAddress().getDong(), senior.getState(),
+                senior.getDoll() != null ? senior.getDoll().getId() : null, senior.getPhone(), senior.getCreatedAt()));
+        names.put(senior.getId(), senior.getName());
+    }
+
+    public void remove(Long seniorId) {
+        names.remove(seniorId);
+        entries.remove(seniorId);
+    }
+
+    public List<SeniorListResponseDto> search(String query, int limit) {
+        return names.search(query, limit).stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .map(Entry::toDto)
+                .toList();
+    }
+
+    private record Entry(Long seniorId, String name, LocalDate birthDate, Sex sex, Gu gu, Beopjeongdong dong,
+            Risk state, String dollId, String phone, LocalDateTime createdAt) {
+        private SeniorListResponseDto toDto() {
+            return new SeniorListResponseDto(seniorId, name, birthDate, sex, gu, dong, state, dollId, phone, createdAt);
+        }
+    }
+}
\ No newline at end of file
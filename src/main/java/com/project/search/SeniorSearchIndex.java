@@ -0,0 +1,65 @@
+package com.project.search;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.domain.senior.Senior;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class SeniorSearchIndex {
+    private final NgramIndex names = new NgramIndex(2, value -> value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT));
+    private final NgramIndex phones = new NgramIndex(3, value -> value.replaceAll("\\D", ""));
+    private final NgramIndex guardianPhones = new NgramIndex(3, value -> value.replaceAll("\\D", ""));
+    private volatile boolean ready;
+
+    @Value("${search.ngram.max-matches:1000}")
+    private int maxMatches;
+
+    public synchronized void rebuild(Collection<Senior> seniors) {
+        ready = false;
+        names.clear();
+        phones.clear();
+        guardianPhones.clear();
+        seniors.forEach(this::index);
+        ready = true;
+        log.info("시니어 n-gram 색인 재구성 완료: seniorCount={}", names.size());
+    }
+
+    public void index(Senior senior) {
+        names.put(senior.getId(), senior.getName());
+        phones.put(senior.getId(), senior.getPhone());
+        guardianPhones.put(senior.getId(), senior.getGuardian() != null ? senior.getGuardian().getGuardianPhone() : null);
+    }
+
+    public void remove(Long seniorId) {
+        names.remove(seniorId);
+        phones.remove(seniorId);
+        guardianPhones.remove(seniorId);
+    }
+
+    public Set<Long> findByName(String name) {
+        return find(names, name);
+    }
+
+    public Set<Long> findByPhone(String phone) {
+        return find(phones, phone);
+    }
+
+    public Set<Long> findByGuardianPhone(String guardianPhone) {
+        return find(guardianPhones, guardianPhone);
+    }
+
+    private Set<Long> find(NgramIndex index, String term) {
+        if (!ready)
+            return null;
+        Set<Long> matches = index.search(term);
+        return matches != null && matches.size() <= maxMatches ? matches : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,394 @@
+package com.project.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.analyzer.RetryableAnalyzerFailure;
+import com.project.domain.analysis.AnalysisJobStatus;
+import com.project.dto.response.AnalysisJobResponseDto;
+import com.project.dto.response.AnalysisResponseWithIdDto;
+import com.project.dto.response.BatchAnalysisResponseDto;
+import com.project.dto.response.DollAnalysisErrorDto;
+import com.project.exception.InvalidFileException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+    private static final String CONTENT_SUFFIX = ".csv";
+    private static final String META_SUFFIX = ".job";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final RetryableAnalyzerFailure RETRYABLE_FAILURE = new RetryableAnalyzerFailure();
+
+    private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+    private final AnalyzeService analyzeService;
+    private final NotificationService notificationService;
+    private final ThreadPoolTaskExecutor analysisExecutor;
+    private final TaskScheduler taskScheduler;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${analysis.job.retention:PT1H}")
+    private Duration retention;
+
+    @Value("${analysis.queue.dir:./data/analysis-queue/}")
+    private Path queueDir;
+
+    @Value("${analysis.queue.initial-backoff:PT10S}")
+    private Duration initialBackoff;
+
+    @Value("${analysis.queue.max-backoff:PT10M}")
+    private Duration maxBackoff;
+
+    @Value("${analysis.queue.max-attempts:20}")
+    private int maxAttempts;
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(queueDir);
+        Gauge.builder("analysis.queue.depth", jobs,
+                        queued -> queued.values().stream().filter(job -> job.completedAt == null).count())
+                .description("디스크 분석 대기열에 남아 있는 작업 수")
+                .register(meterRegistry);
+    }
+
+    public AnalysisJobResponseDto submit(MultipartFile file, String username, boolean force) {
+        AnalysisJob job = enqueue(file, username, force, false);
+        try {
+            analysisExecutor.execute(() -> run(job, false));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            removeFromQueue(job.id);
+            throw e;
+        }
+        log.info("비동기 분석 작업 접수: jobId={}, fileName={}, username={}", job.id, job.fileName, username);
+        return job.toDto();
+    }
+
+    public Attempt<AnalysisResponseWithIdDto> analyze(MultipartFile file, String username, boolean force) {
+        AnalysisJob job = enqueue(file, username, force, false);
+        log.info("분석 작업 접수 후 바로 실행: jobId={}, fileName={}, username={}", job.id, job.fileName, username);
+        AnalysisResponseWithIdDto result = (AnalysisResponseWithIdDto) run(job, true);
+        return new Attempt<>(job.toDto(), result);
+    }
+
+    public Attempt<BatchAnalysisResponseDto> analyzeBatch(MultipartFile file, String username, boolean force) {
+        AnalysisJob job = enqueue(file, username, force, true);
+        log.info("다중 인형 분석 작업 접수 후 바로 실행: jobId={}, fileName={}, username={}", job.id, job.fileName, username);
+        BatchAnalysisResponseDto result = (BatchAnalysisResponseDto) run(job, true);
+        return new Attempt<>(job.toDto(), result != null ? result.withJobId(job.id) : null);
+    }
+
+    private AnalysisJob enqueue(MultipartFile file, String username, boolean force, boolean batch) {
+        if (file == null || file.isEmpty()) {
+            log.warn("분석 요청 파일이 비어있음");
+            throw new InvalidFileException("파일이 없거나 비어있습니다.");
+        }
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), file.getOriginalFilename(), username, force,
+                batch, LocalDateTime.now(), 0);
+        try (InputStream content = file.getInputStream()) {
+            writeDurably(contentPath(job.id), out -> content.transferTo(out));
+            writeMeta(job);
+        } catch (IOException e) {
+            removeFromQueue(job.id);
+            throw new InvalidFileException("파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+        jobs.put(job.id, job);
+        return job;
+    }
+
+    public AnalysisJobResponseDto getJob(String jobId) {
+        AnalysisJob job = jobs.get(jobId);
+        if (job == null)
+            throw new EntityNotFoundException("ID: " + jobId + " 분석 작업을 찾을 수 없습니다.");
+        return job.toDto();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeQueuedJobs() {
+        int resumed = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(queueDir)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    deleteQuietly(entry);
+                } else if (name.endsWith(CONTENT_SUFFIX)) {
+                    String jobId = name.substring(0, name.length() - CONTENT_SUFFIX.length());
+                    if (Files.notExists(metaPath(jobId)))
+                        deleteQuietly(entry);
+                } else if (name.endsWith(META_SUFFIX) && resume(entry)) {
+                    resumed++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("분석 대기열 복구 실패: dir={}, message={}", queueDir, e.getMessage());
+        }
+        if (resumed > 0)
+            log.info("분석 대기열의 미처리 작업 재개: count={}", resumed);
+    }
+
+    private boolean resume(Path meta) {
+        try {
+            AnalysisJob job = AnalysisJob.from(objectMapper.readValue(meta.toFile(), QueuedAnalysis.class));
+            if (jobs.putIfAbsent(job.id, job) != null || job.status == AnalysisJobStatus.FAILED)
+                return false;
+            scheduleRetry(job, Duration.ZERO);
+            return true;
+        } catch (IOException e) {
+            log.warn("분석 대기열 작업 정보를 읽을 수 없어 건너뜀: path={}, message={}", meta, e.getMessage());
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analysis.job.purge-interval:PT5M}")
+    public void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+    }
+
+    private Object run(AnalysisJob job, boolean waiting) {
+        job.status = AnalysisJobStatus.RUNNING;
+        job.attempts++;
+        job.error = null;
+        persistMeta(job);
+        log.info("분석 작업 시작: jobId={}, attempt={}", job.id, job.attempts);
+        try {
+            Object result = job.batch ? runBatch(job) : runSingle(job);
+            if (job.status == AnalysisJobStatus.RETRYING)
+                return result;
+            if (job.error != null) {
+                log.error("재시도 횟수를 모두 써서 일부 인형 분석 실패로 종료: jobId={}, attempt={}, message={}",
+                        job.id, job.attempts, job.error);
+                finish(job, AnalysisJobStatus.FAILED, !waiting);
+                return result;
+            }
+            finish(job, AnalysisJobStatus.COMPLETED, !waiting);
+            log.info("분석 작업 완료: jobId={}, overallResultIds={}", job.id, job.overallResultIds);
+            return result;
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            if (RETRYABLE_FAILURE.test(e) && retry(job))
+                return null;
+            log.error("분석 작업 실패: jobId={}, attempt={}, message={}", job.id, job.attempts, e.getMessage());
+            finish(job, AnalysisJobStatus.FAILED, !waiting);
+            if (waiting)
+                throw e;
+            return null;
+        }
+    }
+
+    private AnalysisResponseWithIdDto runSingle(AnalysisJob job) {
+        AnalysisResponseWithIdDto result = analyzeService.analyzeAndSave(
+                new FileSystemResource(contentPath(job.id)), job.fileName, forceThisAttempt(job));
+        job.overallResultId = result.id();
+        job.overallResultIds = List.of(result.id());
+        return result;
+    }
+
+    private BatchAnalysisResponseDto runBatch(AnalysisJob job) {
+        BatchAnalysisResponseDto result = analyzeService.analyzeBatchAndSave(
+                new FileSystemResource(contentPath(job.id)), job.fileName, forceThisAttempt(job));
+        job.overallResultIds = result.results().stream().map(AnalysisResponseWithIdDto::id).toList();
+        List<DollAnalysisErrorDto> retryableErrors = result.errors().stream().filter(DollAnalysisErrorDto::retryable).toList();
+        if (!retryableErrors.isEmpty()) {
+            job.error = retryableErrors.size() + "개 인형 분석 실패: " + retryableErrors.get(0).error();
+            retry(job);
+        }
+        return result;
+    }
+
+    // 앞선 시도에서 이미 저장된 인형을 다시 분석하지 않도록, 재시도에서는 내용 해시로 기존 결과를 재사용함
+    private boolean forceThisAttempt(AnalysisJob job) {
+        return job.force && job.attempts == 1;
+    }
+
+    private boolean retry(AnalysisJob job) {
+        if (job.attempts >= maxAttempts)
+            return false;
+        Duration backoff = backoff(job.attempts);
+        job.status = AnalysisJobStatus.RETRYING;
+        log.warn("분석 서버 오류로 작업 재시도 예약: jobId={}, attempt={}, backoff={}, message={}",
+                job.id, job.attempts, backoff, job.error);
+        scheduleRetry(job, backoff);
+        return true;
+    }
+
+    private void finish(AnalysisJob job, AnalysisJobStatus status, boolean notify) {
+        job.status = status;
+        job.completedAt = LocalDateTime.now();
+        // 실패한 작업의 원본 파일은 다시 처리할 수 있도록 대기열에 실패 상태로 남김
+        if (status == AnalysisJobStatus.FAILED)
+            persistMeta(job);
+        else
+            removeFromQueue(job.id);
+        if (notify)
+            notificationService.sendAnalysisJobNotification(job.username, job.toDto());
+    }
+
+    private void scheduleRetry(AnalysisJob job, Duration delay) {
+        taskScheduler.schedule(() -> {
+            try {
+                analysisExecutor.execute(() -> run(job, false));
+            } catch (TaskRejectedException e) {
+                log.warn("분석 작업 실행 대기열이 가득 차 재시도 연기: jobId={}", job.id);
+                scheduleRetry(job, initialBackoff);
+            }
+        }, Instant.now().plus(delay));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void persistMeta(AnalysisJob job) {
+        try {
+            writeMeta(job);
+        } catch (IOException e) {
+            log.warn("분석 대기열 작업 정보 갱신 실패: jobId={}, message={}", job.id, e.getMessage());
+        }
+    }
+
+    private void writeMeta(AnalysisJob job) throws IOException {
+        byte[] meta = objectMapper.writeValueAsBytes(job.toQueued());
+        writeDurably(metaPath(job.id), out -> out.write(meta));
+    }
+
+    private void writeDurably(Path target, QueueWriter writer) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            writer.write(out);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void removeFromQueue(String jobId) {
+        deleteQuietly(metaPath(jobId));
+        deleteQuietly(contentPath(jobId));
+    }
+
+    private Path contentPath(String jobId) {
+        return queueDir.resolve(jobId + CONTENT_SUFFIX);
+    }
+
+    private Path metaPath(String jobId) {
+        return queueDir.resolve(jobId + META_SUFFIX);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("분석 대기열 파일 삭제 실패: path={}, message={}", path, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface QueueWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    public record Attempt<T>(
+            AnalysisJobResponseDto job,
+            T result
+    ) {
+    }
+
+    record QueuedAnalysis(
+            String jobId,
+            String fileName,
+            String username,
+            boolean force,
+            boolean batch,
+            LocalDateTime requestedAt,
+            int attempts,
+            String error,
+            LocalDateTime failedAt
+    ) {
+    }
+
+    private static class AnalysisJob {
+        private final String id;
+        private final String fileName;
+        private final String username;
+        private final boolean force;
+        private final boolean batch;
+        private final LocalDateTime requestedAt;
+        private volatile int attempts;
+        private volatile AnalysisJobStatus status = AnalysisJobStatus.PENDING;
+        private volatile Long overallResultId;
+        private volatile List<Long> overallResultIds;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        private AnalysisJob(String id, String fileName, String username, boolean force, boolean batch,
+                LocalDateTime requestedAt, int attempts) {
+            this.id = id;
+            this.fileName = fileName;
+            this.username = username;
+            this.force = force;
+            this.batch = batch;
+            this.requestedAt = requestedAt;
+            this.attempts = attempts;
+        }
+
+        private static AnalysisJob from(QueuedAnalysis queued) {
+            AnalysisJob job = new AnalysisJob(queued.jobId(), queued.fileName(), queued.username(), queued.force(),
+                    queued.batch(), queued.requestedAt(), queued.attempts());
+            job.error = queued.error();
+            if (queued.failedAt() != null) {
+                job.status = AnalysisJobStatus.FAILED;
+                job.completedAt = queued.failedAt();
+            }
+            return job;
+        }
+
+        private QueuedAnalysis toQueued() {
+            LocalDateTime failedAt = status == AnalysisJobStatus.FAILED ? completedAt : null;
+            return new QueuedAnalysis(id, fileName, username, force, batch, requestedAt, attempts, error, failedAt);
+        }
+
+        private AnalysisJobResponseDto toDto() {
+            return new AnalysisJobResponseDto(id, fileName, status, attempts, overallResultId, overallResultIds, error,
+                    requestedAt, completedAt);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.domain.analysis.ConfidenceScores;
+import com.project.domain.analysis.OverallResult;
+import com.project.domain.analysis.Reason;
+import com.project.domain.analysis.Risk;
+import com.project.domain.senior.Doll;
+import com.project.domain.senior.Senior;
+import com.project.dto.ConfidenceScoresDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.dto.response.AnalysisResponseWithIdDto;
+import com.project.event.AnalysisSavedEvent;
+import com.project.event.SeniorStateChangedEvent;
+import com.project.exception.PythonApiException;
+import com.project.persistence.DialogueJdbcRepository;
+import com.project.persistence.DollRepository;
+import com.project.persistence.OverallResultRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisResultService {
+    private final DollRepository dollRepository;
+    private final OverallResultRepository overallResultRepository;
+    private final DialogueJdbcRepository dialogueJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public Optional<AnalysisResponseWithIdDto> findAnalysisResult(String dollId, String contentHash) {
+        return overallResultRepository.findFirstByDollIdAndContentHashOrderByIdDesc(dollId, contentHash)
+                .flatMap(result -> overallResultRepository.findByIdWithDetails(result.getId()))
+                .map(AnalysisResponseWithIdDto::from);
+    }
+
+    @Transactional
+    public AnalysisResponseWithIdDto saveAnalysisResult(String dollId, AnalysisResponseDto responseDto, String contentHash) {
+        log.info("분석 결과 저장 시작: dollId={}", dollId);
+        String responseDollId = responseDto.overallResult().dollId();
+        if (!dollId.equals(responseDollId)) {
+            log.error("분석 결과의 인형 ID가 요청과 다름: dollId={}, responseDollId={}", dollId, responseDollId);
+            throw new PythonApiException("분석 서버가 요청과 다른 인형(" + responseDollId + ")의 결과를 반환했습니다.",
+                    HttpStatus.SERVICE_UNAVAILABLE, false);
+        }
+        
+        Doll doll = dollRepository.findByIdWithSeniorForUpdate(dollId)
+                .orElseThrow(() -> new EntityNotFoundException("인형 " + dollId + "가 없음."));
+        
+        ConfidenceScoresDto overallScoresDto = responseDto.overallResult().confidenceScores();
+        ConfidenceScores overallScores = dtoToConfidenceScores(overallScoresDto);
+        
+        List<String> evidenceTexts = responseDto.overallResult().reason().evidence().stream()
+                .map(evidenceDto -> evidenceDto.text())
+                .collect(Collectors.toList());
+        
+        Reason reason = Reason.builder()
+                .reasons(evidenceTexts)
+                .summary(responseDto.overallResult().reason().summary())
+                .build();
+        
+        OverallResult overallResult = OverallResult.builder()
+                .doll(doll)
+                .senior(doll.getSenior())
+                .label(responseDto.overallResult().label())
+                .confidenceScores(overallScores)
+                .reason(reason)
+                .treatmentPlan(responseDto.overallResult().treatmentPlan())
+                .contentHash(contentHash)
+                .build();
+        
+        Senior senior = overallResult.getSenior();
+        Risk previousState = senior.getState();
+        Risk newState = overallResult.getLabel();
+        
+        senior.updateState(newState);
+
+        OverallResult savedResult = overallResultRepository.save(overallResult);
+        senior.recordAnalysis(savedResult);
+        dialogueJdbcRepository.batchInsert(savedResult.getId(), responseDto.dialogueResult());
+        eventPublisher.publishEvent(new AnalysisSavedEvent(senior.getId(), savedResult.getId()));
+
+        if (previousState != newState) {
+        	String changeReason = String.format("분석 ID: %d의 결과로 상태 변경", savedResult.getId());
+            SeniorStateChangedEvent event = new SeniorStateChangedEvent(
+                senior, 
+                previousState, 
+                newState, 
+                changeReason
+            );
+            log.info("SeniorStateChangedEvent 발행: seniorId={}, reason={}", senior.getId(), changeReason);
+            eventPublisher.publishEvent(event);
+        }
+        
+        log.info("분석 결과 저장 완료: overallResultId={}, dollId={}", savedResult.getId(), dollId);
+
+        return new AnalysisResponseWithIdDto(savedResult.getId(), responseDto.overallResult(), responseDto.dialogueResult());
+    }
+
+    private ConfidenceScores dtoToConfidenceScores(ConfidenceScoresDto dto) {
+        if (dto == null)
+            return null;
+        return ConfidenceScores.builder()
+                .positive(dto.positive())
+                .danger(dto.danger())
+                .critical(dto.critical())
+                .emergency(dto.emergency())
+                .build();
+    }
+}
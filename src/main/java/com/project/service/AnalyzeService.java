@@ -1,48 +1,61 @@
 package com.project.service;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
-import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvValidationException;
-import com.project.domain.analysis.ConfidenceScores;
-import com.project.domain.analysis.Dialogue;
+import com.opencsv.CSVWriter;
+import com.project.analyzer.RetryableAnalyzerFailure;
+import com.project.analyzer.RiskAnalyzer;
 import com.project.domain.analysis.OverallResult;
-import com.project.domain.analysis.Reason;
-import com.project.domain.analysis.Risk;
 import com.project.domain.senior.Doll;
 import com.project.domain.senior.Senior;
-import com.project.dto.ConfidenceScoresDto;
+import com.project.dto.request.CountMode;
 import com.project.dto.request.DialogueAnalysisRequestDto;
 import com.project.dto.request.OverallResultSearchCondition;
 import com.project.dto.response.AnalysisDetailResponseDto;
 import com.project.dto.response.AnalysisResponseDto;
 import com.project.dto.response.AnalysisResponseWithIdDto;
-import com.project.dto.response.DialogueAnalysisResponseDto;
+import com.project.dto.response.BatchAnalysisResponseDto;
+import com.project.dto.response.CursorPageDto;
+import com.project.dto.response.CustomPageDto;
+import com.project.dto.response.DollAnalysisErrorDto;
 import com.project.dto.response.OverallResultListResponseDto;
-import com.project.event.SeniorStateChangedEvent;
+import com.project.event.AnalysisDeletedEvent;
 import com.project.exception.InvalidFileException;
 import com.project.persistence.DollRepository;
 import com.project.persistence.OverallResultRepository;
+import com.project.persistence.SeniorRepository;
+import com.project.util.CsvExportUtil;
+import com.project.util.CursorUtil;
+import com.project.util.DialogueCsvUtil;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -52,146 +65,217 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class AnalyzeService {
-    private final RestTemplate restTemplate;
+    private static final String[] OVERALL_RESULT_CSV_HEADER = {
+            "overall_result_id", "timestamp", "label", "summary", "is_resolved",
+            "senior_id", "name", "age", "sex", "gu", "dong", "doll_id" };
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final RetryableAnalyzerFailure RETRYABLE_FAILURE = new RetryableAnalyzerFailure();
+
+    private final RiskAnalyzer riskAnalyzer;
     private final DollRepository dollRepository;
     private final OverallResultRepository overallResultRepository;
+    private final SeniorRepository seniorRepository;
+    private final AnalysisResultService analysisResultService;
     private final NotificationService notificationService;
+    private final SearchCountService searchCountService;
+    private final ThreadPoolTaskExecutor analysisBatchExecutor;
     private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, CompletableFuture<AnalysisResponseWithIdDto>> inFlightAnalyses = new ConcurrentHashMap<>();
 
-    @Value("${python.server.url}")
-    private String pythonServerUrl;
+    @Value("${export.fetch-size:1000}")
+    private int exportFetchSize;
 
-    @Transactional
-    public AnalysisResponseWithIdDto analyzeAndSave(MultipartFile file) {
-    	log.info("대화 분석 요청 수신: fileName={}", file.getOriginalFilename());
-        if (file == null || file.isEmpty()) {
-        	log.warn("분석 요청 파일이 비어있음");
-            throw new InvalidFileException("파일이 없거나 비어있습니다.");
-        }
-        log.info("대화 분석 시작: fileName={}", file.getOriginalFilename());
-        List<DialogueAnalysisRequestDto> reqeustDialogues = new ArrayList<>();
-
-        DateTimeFormatter csvFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss");
-        boolean firstCheck = true;
-        try (CSVReader reader = new CSVReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-            reader.readNext();
-            String[] columns;
-            while ((columns = reader.readNext()) != null) {
-                String dollId = columns[0].trim();
-                String text = columns[1].trim();
-                String utteredAtCsv = columns[2].trim();
-                
-                if (dollId.isEmpty() || text.isEmpty() || utteredAtCsv.isEmpty()) {
-                    log.warn("비었거나 잘못된 라인 스킵: doll_id={}, text={}, uttered_at={}", dollId, text, utteredAtCsv);
-                    continue;
-                }
-                
-                if (firstCheck) {
-                    Doll doll = dollRepository.findByIdWithSenior(dollId)
-                            .orElseThrow(() -> new EntityNotFoundException("인형 " + dollId + "가 없음."));
-                    if(doll.getSenior() == null)
-                    	throw new EntityNotFoundException("인형에 할당된 시니어가 없음.");
-                    log.info("CSV 파일 검증 완료: dollId={}, seniorId={}", doll.getId(), doll.getSenior().getId());
-                    firstCheck = false;
+    public AnalysisResponseWithIdDto analyzeAndSave(InputStreamSource source, String fileName, boolean force) {
+        log.info("대화 분석 시작: fileName={}, force={}", fileName, force);
+        Map<String, String> fingerprints = fingerprintDialoguesByDoll(source);
+        String dollId = validate(fingerprints);
+        return analyzeDollAndSave(source, dollId, fingerprints.get(dollId), force);
+    }
+
+    public BatchAnalysisResponseDto analyzeBatchAndSave(InputStreamSource source, String fileName, boolean force) {
+        Map<String, DollPartition> partitions = partitionDialoguesByDoll(source);
+        try {
+            return analyzeBatchAndSave(partitions, fileName, force);
+        } finally {
+            partitions.values().forEach(DollPartition::delete);
+        }
+    }
+
+    private BatchAnalysisResponseDto analyzeBatchAndSave(Map<String, DollPartition> partitions, String fileName, boolean force) {
+        if (partitions.isEmpty())
+            throw new InvalidFileException("분석할 대화 내용이 없습니다.");
+        log.info("다중 인형 대화 분석 시작: fileName={}, dollCount={}, force={}", fileName, partitions.size(), force);
+
+        Map<String, Doll> dolls = dollRepository.findAllByIdInWithSenior(partitions.keySet()).stream()
+                .collect(Collectors.toMap(Doll::getId, Function.identity()));
+
+        List<DollAnalysisErrorDto> errors = new ArrayList<>();
+        Map<String, CompletableFuture<AnalysisResponseWithIdDto>> futures = new LinkedHashMap<>();
+        for (DollPartition partition : partitions.values()) {
+            String dollId = partition.dollId();
+            Doll doll = dolls.get(dollId);
+            if (doll == null) {
+                errors.add(new DollAnalysisErrorDto(dollId, "인형 " + dollId + "가 없음.", false));
+            } else if (doll.getSenior() == null) {
+                errors.add(new DollAnalysisErrorDto(dollId, "인형에 할당된 시니어가 없음.", false));
+            } else {
+                try {
+                    futures.put(dollId, CompletableFuture.supplyAsync(
+                            () -> analyzeDollAndSave(partition.source(), dollId, partition.contentHash(), force), analysisBatchExecutor));
+                } catch (RejectedExecutionException e) {
+                    log.warn("인형별 분석 작업 대기열 초과: dollId={}", dollId);
+                    errors.add(new DollAnalysisErrorDto(dollId, "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", true));
                 }
-                
-                LocalDateTime dateTime = LocalDateTime.parse(utteredAtCsv, csvFormatter);
-                reqeustDialogues.add(new DialogueAnalysisRequestDto(dollId, text, dateTime));
             }
-        } catch (DateTimeParseException e) {
-            throw new InvalidFileException("날짜 포맷은 YYYY-MM-DD HH:MM:SS이어야 합니다.", e);
-        } catch (CsvValidationException e) {
-            throw new InvalidFileException("잘못된 형식의 CSV 파일입니다.", e);
-        } catch (IOException e) {
-            throw new InvalidFileException("파일을 읽는 중 오류가 발생했습니다.", e);
         }
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<List<DialogueAnalysisRequestDto>> requestEntity = new HttpEntity<>(reqeustDialogues, headers);
-        log.info("Python 서버로 분석 요청: url={}, dialogueCount={}", pythonServerUrl, reqeustDialogues.size());
-        AnalysisResponseDto apiResponse = restTemplate.postForObject(
-                pythonServerUrl + "/analyze",
-                requestEntity,
-                AnalysisResponseDto.class);
-        log.info("Python 서버로부터 분석 결과 수신 완료");
-        AnalysisResponseWithIdDto result = saveAnalysisResult(apiResponse);
-        notificationService.sendAnalysisCompleteNotificationToAdmins(result);
-        return result;
+
+        List<AnalysisResponseWithIdDto> results = new ArrayList<>();
+        futures.forEach((dollId, future) -> {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("인형별 분석 실패: dollId={}, message={}", dollId, cause.getMessage());
+                errors.add(new DollAnalysisErrorDto(dollId, cause.getMessage(), RETRYABLE_FAILURE.test(cause)));
+            }
+        });
+        log.info("다중 인형 대화 분석 완료: fileName={}, successCount={}, errorCount={}", fileName, results.size(), errors.size());
+        return new BatchAnalysisResponseDto(results, errors, null);
     }
-    
-    @Transactional
-    private AnalysisResponseWithIdDto saveAnalysisResult(AnalysisResponseDto responseDto) {
-        String responseDollId = responseDto.overallResult().dollId();
-        log.info("분석 결과 저장 시작: dollId={}", responseDollId);
-        
-        Doll doll = dollRepository.findByIdWithSenior(responseDollId)
-                .orElseThrow(() -> new EntityNotFoundException("인형 " + responseDollId + "가 없음."));
-        
-        ConfidenceScoresDto overallScoresDto = responseDto.overallResult().confidenceScores();
-        ConfidenceScores overallScores = dtoToConfidenceScores(overallScoresDto);
-        
-        List<String> evidenceTexts = responseDto.overallResult().reason().evidence().stream()
-                .map(evidenceDto -> evidenceDto.text())
-                .collect(Collectors.toList());
-        
-        Reason reason = Reason.builder()
-                .reasons(evidenceTexts)
-                .summary(responseDto.overallResult().reason().summary())
-                .build();
-        
-        OverallResult overallResult = OverallResult.builder()
-                .doll(doll)
-                .senior(doll.getSenior())
-                .label(responseDto.overallResult().label())
-                .confidenceScores(overallScores)
-                .reason(reason)
-                .treatmentPlan(responseDto.overallResult().treatmentPlan())
-                .build();
-        
-        for (DialogueAnalysisResponseDto dialogueDto : responseDto.dialogueResult()) {
-            ConfidenceScoresDto dialogueScoresDto = dialogueDto.confidenceScores();
-            ConfidenceScores dialogueScores = dtoToConfidenceScores(dialogueScoresDto);
-            
-            Dialogue dialogue = Dialogue.builder()
-                    .text(dialogueDto.text())
-                    .utteredAt(dialogueDto.utteredAt())
-                    .label(dialogueDto.label())
-                    .confidenceScores(dialogueScores)
-                    .build();
-            
-            overallResult.addDialogue(dialogue);
+
+    private AnalysisResponseWithIdDto analyzeDollAndSave(InputStreamSource source, String dollId, String contentHash, boolean force) {
+        String key = dollId + ":" + contentHash;
+        CompletableFuture<AnalysisResponseWithIdDto> analysis = new CompletableFuture<>();
+        CompletableFuture<AnalysisResponseWithIdDto> inFlight = inFlightAnalyses.putIfAbsent(key, analysis);
+        if (inFlight != null) {
+            log.info("동일한 대화 분석이 진행 중이므로 결과를 기다림: dollId={}, contentHash={}", dollId, contentHash);
+            return awaitInFlight(inFlight);
         }
-        
-        Senior senior = overallResult.getSenior();
-        Risk previousState = senior.getState();
-        Risk newState = overallResult.getLabel();
-        
-        senior.updateState(newState);
+        try {
+            AnalysisResponseWithIdDto result = force ? null
+                    : analysisResultService.findAnalysisResult(dollId, contentHash).orElse(null);
+            if (result != null) {
+                log.info("이미 분석된 대화이므로 기존 결과 반환: dollId={}, overallResultId={}", dollId, result.id());
+            } else {
+                AnalysisResponseDto apiResponse = requestAnalysis(source, dollId);
+                result = analysisResultService.saveAnalysisResult(dollId, apiResponse, contentHash);
+                notificationService.sendAnalysisCompleteNotificationToAdmins(result);
+            }
+            analysis.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            analysis.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightAnalyses.remove(key, analysis);
+        }
+    }
 
-        OverallResult savedResult = overallResultRepository.save(overallResult);
+    private AnalysisResponseWithIdDto awaitInFlight(CompletableFuture<AnalysisResponseWithIdDto> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    private String validate(Map<String, String> fingerprints) {
+        if (fingerprints.isEmpty())
+            throw new InvalidFileException("분석할 대화 내용이 없습니다.");
+        if (fingerprints.size() > 1)
+            throw new InvalidFileException("여러 인형의 대화가 포함된 파일은 /api/analyze/batch로 요청해야 합니다.");
+        String dollId = fingerprints.keySet().iterator().next();
+        Doll doll = dollRepository.findByIdWithSenior(dollId)
+                .orElseThrow(() -> new EntityNotFoundException("인형 " + dollId + "가 없음."));
+        if(doll.getSenior() == null)
+        	throw new EntityNotFoundException("인형에 할당된 시니어가 없음.");
+        log.info("CSV 파일 검증 완료: dollId={}, seniorId={}", doll.getId(), doll.getSenior().getId());
+        return dollId;
+    }
 
-        if (previousState != newState) {
-        	String changeReason = String.format("분석 ID: %d의 결과로 상태 변경", savedResult.getId());
-            SeniorStateChangedEvent event = new SeniorStateChangedEvent(
-                senior, 
-                previousState, 
-                newState, 
-                changeReason
-            );
-            log.info("SeniorStateChangedEvent 발행: seniorId={}, reason={}", senior.getId(), changeReason);
-            eventPublisher.publishEvent(event);
+    private Map<String, String> fingerprintDialoguesByDoll(InputStreamSource source) {
+        Map<String, MessageDigest> digests = new LinkedHashMap<>();
+        try (Stream<DialogueAnalysisRequestDto> dialogues = DialogueCsvUtil.stream(source)) {
+            dialogues.forEach(dialogue -> digests.computeIfAbsent(dialogue.dollId(), dollId -> newDigest())
+                    .update(normalize(dialogue)));
         }
-        
-        log.info("분석 결과 저장 완료: overallResultId={}, dollId={}", savedResult.getId(), responseDollId);
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        digests.forEach((dollId, digest) -> fingerprints.put(dollId, HexFormat.of().formatHex(digest.digest())));
+        return fingerprints;
+    }
 
-        return new AnalysisResponseWithIdDto(savedResult.getId(), responseDto.overallResult(), responseDto.dialogueResult());
+    private Map<String, DollPartition> partitionDialoguesByDoll(InputStreamSource source) {
+        Map<String, DollPartition> partitions = new LinkedHashMap<>();
+        try (Stream<DialogueAnalysisRequestDto> dialogues = DialogueCsvUtil.stream(source)) {
+            dialogues.forEach(dialogue -> partitions.computeIfAbsent(dialogue.dollId(), DollPartition::create).add(dialogue));
+            partitions.values().forEach(DollPartition::finish);
+            return partitions;
+        } catch (RuntimeException e) {
+            partitions.values().forEach(DollPartition::delete);
+            throw e;
+        }
+    }
+
+    private static byte[] normalize(DialogueAnalysisRequestDto dialogue) {
+        String normalized = WHITESPACE.matcher(dialogue.text()).replaceAll(" ") + '\u001F' + dialogue.utteredAt() + '\n';
+        return normalized.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private AnalysisResponseDto requestAnalysis(InputStreamSource source, String dollId) {
+        try (Stream<DialogueAnalysisRequestDto> dialogues = DialogueCsvUtil.stream(source)
+                .filter(dialogue -> dollId.equals(dialogue.dollId()))) {
+            return riskAnalyzer.analyze(dollId, dialogues);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CustomPageDto<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, Pageable pageable, CountMode countMode) {
+    	log.info("분석 결과 목록 검색: condition={}, pageable={}, countMode={}", condition, pageable, countMode);
+    	List<OverallResultListResponseDto> rows = overallResultRepository.searchOverallResults(condition, pageable.getOffset(), pageable.getPageSize() + 1);
+    	return searchCountService.page(SearchCountService.OVERALL_RESULTS, condition, pageable, rows, countMode,
+    			() -> overallResultRepository.countOverallResults(condition),
+    			condition.equals(new OverallResultSearchCondition()) ? overallResultRepository::estimateOverallResultCount : null);
     }
 
     @Transactional(readOnly = true)
-    public Page<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, Pageable pageable) {
-    	log.info("분석 결과 목록 검색: condition={}, pageable={}", condition, pageable);
-    	return overallResultRepository.searchOverallResults(condition, pageable);
+    public CursorPageDto<OverallResultListResponseDto> searchOverallResults(OverallResultSearchCondition condition, String cursor, int size) {
+    	log.info("분석 결과 목록 커서 검색: condition={}, cursor={}, size={}", condition, cursor, size);
+    	int limit = CursorPageDto.limitOf(size);
+    	List<OverallResultListResponseDto> rows = overallResultRepository.searchOverallResults(condition, CursorUtil.decode(cursor), limit + 1);
+    	return CursorPageDto.of(rows, limit, dto -> CursorUtil.encode(dto.timestamp(), dto.overallResultId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportOverallResults(OverallResultSearchCondition condition, OutputStream out) throws IOException {
+    	log.info("분석 결과 CSV 내보내기 시작: condition={}", condition);
+    	try (Stream<OverallResultListResponseDto> rows = overallResultRepository.streamOverallResults(condition, exportFetchSize)) {
+    		long count = CsvExportUtil.write(out, OVERALL_RESULT_CSV_HEADER, rows, dto -> new String[] {
+    				CsvExportUtil.valueOf(dto.overallResultId()),
+    				CsvExportUtil.valueOf(dto.timestamp()),
+    				CsvExportUtil.valueOf(dto.label()),
+    				CsvExportUtil.valueOf(dto.summary()),
+    				CsvExportUtil.valueOf(dto.isResolved()),
+    				CsvExportUtil.valueOf(dto.seniorId()),
+    				CsvExportUtil.valueOf(dto.name()),
+    				CsvExportUtil.valueOf(dto.age()),
+    				CsvExportUtil.valueOf(dto.sex()),
+    				CsvExportUtil.valueOf(dto.gu()),
+    				CsvExportUtil.valueOf(dto.dong()),
+    				CsvExportUtil.valueOf(dto.dollId())
+    		});
+    		log.info("분석 결과 CSV 내보내기 완료: rowCount={}", count);
+    	}
     }
     
     @Transactional(readOnly = true)
@@ -200,12 +284,7 @@ public class AnalyzeService {
         OverallResult overallResult = overallResultRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new EntityNotFoundException("ID: " + id + " 분석을 찾을 수 없습니다."));
         
-        boolean hasNewerResult = overallResultRepository.existsBySeniorIdAndTimestampAfter(
-                overallResult.getSenior().getId(), 
-                overallResult.getTimestamp()
-        );
-
-        boolean isEditable = !hasNewerResult;
+        boolean isEditable = overallResult.getId().equals(overallResult.getSenior().getLatestOverallResultId());
         
         return AnalysisDetailResponseDto.from(overallResult, isEditable);
     }
@@ -213,20 +292,83 @@ public class AnalyzeService {
     @Transactional
 	public void deleteAnalysis(Long id) {
     	log.info("분석 결과 삭제 요청: overallResultId={}", id);
-    	if(!overallResultRepository.existsById(id))
-    		throw new EntityNotFoundException("ID: " + id + " 분석을 찾을 수 없습니다.");
-    	overallResultRepository.deleteById(id);
+    	OverallResult overallResult = overallResultRepository.findById(id)
+    			.orElseThrow(() -> new EntityNotFoundException("ID: " + id + " 분석을 찾을 수 없습니다."));
+    	Long seniorId = overallResult.getSenior() != null ? overallResult.getSenior().getId() : null;
+    	if (seniorId != null) {
+    		Senior senior = seniorRepository.findByIdForUpdate(seniorId)
+    				.orElseThrow(() -> new EntityNotFoundException("시니어 " + seniorId + "는 없음."));
+    		Long latestOverallResultId = id.equals(senior.getLatestOverallResultId())
+    				? overallResultRepository.findFirstBySeniorIdAndIdNotOrderByTimestampDescIdDesc(seniorId, id)
+    						.map(OverallResult::getId)
+    						.orElse(null)
+    				: senior.getLatestOverallResultId();
+    		senior.removeAnalysis(overallResult, latestOverallResultId);
+    	}
+    	overallResultRepository.delete(overallResult);
+    	eventPublisher.publishEvent(new AnalysisDeletedEvent(seniorId, id));
     	log.info("분석 결과 삭제 완료: overallResultId={}", id);
 	}
-	
-    private ConfidenceScores dtoToConfidenceScores(ConfidenceScoresDto dto) {
-        if (dto == null)
-            return null;
-        return ConfidenceScores.builder()
-                .positive(dto.positive())
-                .danger(dto.danger())
-                .critical(dto.critical())
-                .emergency(dto.emergency())
-                .build();
+
+    private static final class DollPartition {
+        private final String dollId;
+        private final Path path;
+        private final CSVWriter writer;
+        private final MessageDigest digest = newDigest();
+        private String contentHash;
+
+        private DollPartition(String dollId, Path path) {
+            this.dollId = dollId;
+            this.path = path;
+            this.writer = DialogueCsvUtil.openWriter(path);
+        }
+
+        private static DollPartition create(String dollId) {
+            try {
+                return new DollPartition(dollId, Files.createTempFile("analysis-batch-", ".csv"));
+            } catch (IOException e) {
+                throw new UncheckedIOException("대화 CSV 임시 파일을 생성하지 못했습니다.", e);
+            }
+        }
+
+        private void add(DialogueAnalysisRequestDto dialogue) {
+            DialogueCsvUtil.write(writer, dialogue);
+            digest.update(normalize(dialogue));
+        }
+
+        private void finish() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("대화 CSV 임시 파일을 저장하지 못했습니다.", e);
+            }
+            contentHash = HexFormat.of().formatHex(digest.digest());
+        }
+
+        private String dollId() {
+            return dollId;
+        }
+
+        private String contentHash() {
+            return contentHash;
+        }
+
+        private InputStreamSource source() {
+            return new FileSystemResource(path);
+        }
+
+        private void delete() {
+            try {
+                if (contentHash == null)
+                    writer.close();
+            } catch (IOException e) {
+                log.warn("대화 CSV 임시 파일 닫기 실패: path={}, message={}", path, e.getMessage());
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("대화 CSV 임시 파일 삭제 실패: path={}, message={}", path, e.getMessage());
+            }
+        }
     }
 }
\ No newline at end of file
@@ -2,87 +2,250 @@ package com.project.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.domain.analysis.OverallResult;
 import com.project.domain.analysis.Risk;
 import com.project.domain.senior.Senior;
+import com.project.dto.response.DashboardBucketDto;
 import com.project.dto.response.DashboardResponseDto;
 import com.project.dto.response.DashboardSeniorDto;
 import com.project.dto.response.SeniorsByStateDto;
 import com.project.dto.response.StateCountDto;
+import com.project.dto.sse.DashboardDeltaPayload;
+import com.project.dto.sse.DashboardDeltaType;
 import com.project.persistence.OverallResultRepository;
 import com.project.persistence.SeniorRepository;
-import com.project.persistence.SeniorStateHistoryRepository;
+import com.project.util.CursorUtil;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator
+            .comparing(BucketKey::lastStateChangedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BucketKey::seniorId, Comparator.reverseOrder());
+
     private final SeniorRepository seniorRepository;
     private final OverallResultRepository overallResultRepository;
-    private final SeniorStateHistoryRepository seniorStateHistoryRepository;
+    private final DashboardStreamService dashboardStreamService;
+
+    private final ReadWriteLock projectionLock = new ReentrantReadWriteLock();
+    private final Object deltaLock = new Object();
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Risk, Long> stateCounts = new EnumMap<>(Risk.class);
+    private volatile Projection projection;
+
+    @Value("${dashboard.bucket.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${dashboard.bucket.max-page-size:500}")
+    private int maxPageSize;
 
-    @Transactional(readOnly = true)
     public DashboardResponseDto getDashboardData() {
-        long totalSeniors = seniorRepository.count();
-        Map<Risk, Long> countsMap = seniorRepository.countSeniorsByState().stream()
-                .collect(Collectors.toMap(row -> (Risk) row[0], row -> (Long) row[1]));
-
-        StateCountDto stateCountDto = new StateCountDto(
-                totalSeniors,
-                countsMap.getOrDefault(Risk.POSITIVE, 0L),
-                countsMap.getOrDefault(Risk.DANGER, 0L),
-                countsMap.getOrDefault(Risk.CRITICAL, 0L),
-                countsMap.getOrDefault(Risk.EMERGENCY, 0L)
+        Projection current = projection();
+        long currentVersion;
+        StateCountDto stateCountDto;
+        synchronized (deltaLock) {
+            currentVersion = version.get();
+            stateCountDto = stateCount();
+        }
+
+        SeniorsByStateDto seniorsByStateDto = new SeniorsByStateDto(
+                page(current, Risk.POSITIVE, null, defaultPageSize),
+                page(current, Risk.DANGER, null, defaultPageSize),
+                page(current, Risk.CRITICAL, null, defaultPageSize),
+                page(current, Risk.EMERGENCY, null, defaultPageSize)
         );
 
-        Map<Long, LocalDateTime> latestStateChangeMap = seniorStateHistoryRepository.findLatestStateChangeTimestampForEachSenior()
-                .stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0],
-                        result -> (LocalDateTime) result[1]
-                ));
-        
-        Map<Long, OverallResult> latestOverallResultMap = overallResultRepository.findLatestOverallResultForEachSenior()
-                .stream()
-                .collect(Collectors.toMap(
-                        result -> result.getSenior().getId(),
-                        Function.identity()
-                ));
-
-        Map<Risk, List<DashboardSeniorDto>> seniorsByState = new EnumMap<>(Risk.class);
-        for (Risk risk : Risk.values()) {
-            seniorsByState.put(risk, new ArrayList<>());
+        return new DashboardResponseDto(currentVersion, stateCountDto, seniorsByStateDto);
+    }
+
+    public DashboardBucketDto getBucket(Risk state, String cursor, Integer size) {
+        int pageSize = size != null ? Math.clamp(size, 1, maxPageSize) : defaultPageSize;
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        return page(projection(), state, after != null ? new BucketKey(after.timestamp(), after.id()) : null, pageSize);
+    }
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardResponseDto rebuild() {
+        rebuildProjection();
+        return getDashboardData();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void refreshSenior(Long seniorId) {
+        projectionLock.readLock().lock();
+        try {
+            Projection current = projection;
+            if (current == null)
+                return;
+            current.seniors().compute(seniorId, (id, previous) -> {
+                DashboardEntry entry = seniorRepository.findById(id)
+                        .map(senior -> toEntry(senior, senior.getLatestOverallResultId() != null
+                                ? overallResultRepository.findById(senior.getLatestOverallResultId()).orElse(null)
+                                : null))
+                        .orElse(null);
+                applyDelta(current, id, previous, entry);
+                return entry;
+            });
+        } finally {
+            projectionLock.readLock().unlock();
+        }
+    }
+
+    public void removeSenior(Long seniorId) {
+        projectionLock.readLock().lock();
+        try {
+            Projection current = projection;
+            if (current != null)
+                current.seniors().computeIfPresent(seniorId, (id, previous) -> {
+                    applyDelta(current, id, previous, null);
+                    return null;
+                });
+        } finally {
+            projectionLock.readLock().unlock();
+        }
+    }
+
+    private Projection projection() {
+        Projection current = projection;
+        if (current == null) {
+            log.info("대시보드 프로젝션이 아직 없어 전체 재구성 수행");
+            rebuildProjection();
+            current = projection;
+        }
+        return current;
+    }
+
+    private void rebuildProjection() {
+        projectionLock.writeLock().lock();
+        try {
+            List<Senior> allSeniors = seniorRepository.findAll();
+            List<Long> latestOverallResultIds = allSeniors.stream()
+                    .map(Senior::getLatestOverallResultId)
+                    .filter(Objects::nonNull)
+                    .toList();
+            Map<Long, OverallResult> latestOverallResultMap = overallResultRepository.findAllById(latestOverallResultIds)
+                    .stream()
+                    .collect(Collectors.toMap(OverallResult::getId, Function.identity()));
+
+            Projection rebuilt = new Projection(new ConcurrentHashMap<>(), new EnumMap<>(Risk.class));
+            for (Risk risk : Risk.values()) {
+                rebuilt.buckets().put(risk, new ConcurrentSkipListSet<>(BUCKET_ORDER));
+            }
+            for (Senior senior : allSeniors) {
+                DashboardEntry entry = toEntry(senior, latestOverallResultMap.get(senior.getLatestOverallResultId()));
+                rebuilt.seniors().put(senior.getId(), entry);
+                rebuilt.buckets().get(entry.state()).add(entry.key());
+            }
+
+            synchronized (deltaLock) {
+                projection = rebuilt;
+                stateCounts.clear();
+                rebuilt.seniors().values().forEach(entry -> stateCounts.merge(entry.state(), 1L, Long::sum));
+                long rebuiltVersion = version.incrementAndGet();
+                dashboardStreamService.publish(new DashboardDeltaPayload(
+                        rebuiltVersion, DashboardDeltaType.RESYNC, null, null, null, null, stateCount()));
+            }
+            log.info("대시보드 프로젝션 재구성 완료: seniorCount={}, version={}", rebuilt.seniors().size(), version.get());
+        } finally {
+            projectionLock.writeLock().unlock();
         }
+    }
 
-        List<Senior> allSeniors = seniorRepository.findAll();
-        for (Senior senior : allSeniors) {
-            LocalDateTime lastStateChangedAt = latestStateChangeMap.get(senior.getId());
-            OverallResult latestResult = latestOverallResultMap.get(senior.getId());
-            
-            DashboardSeniorDto dto = DashboardSeniorDto.from(senior, lastStateChangedAt, latestResult);
-            
-            if (seniorsByState.containsKey(senior.getState())) {
-                seniorsByState.get(senior.getState()).add(dto);
+    private void applyDelta(Projection current, Long seniorId, DashboardEntry previous, DashboardEntry entry) {
+        if (Objects.equals(previous, entry))
+            return;
+        synchronized (deltaLock) {
+            if (previous != null) {
+                current.buckets().get(previous.state()).remove(previous.key());
+                stateCounts.merge(previous.state(), -1L, Long::sum);
             }
+            if (entry != null) {
+                current.buckets().get(entry.state()).add(entry.key());
+                stateCounts.merge(entry.state(), 1L, Long::sum);
+            }
+            long deltaVersion = version.incrementAndGet();
+            dashboardStreamService.publish(new DashboardDeltaPayload(
+                    deltaVersion,
+                    entry != null ? DashboardDeltaType.UPSERTED : DashboardDeltaType.REMOVED,
+                    seniorId,
+                    previous != null ? previous.state() : null,
+                    entry != null ? entry.state() : null,
+                    entry != null ? entry.senior() : null,
+                    stateCount()));
         }
-        
-        SeniorsByStateDto seniorsByStateDto = new SeniorsByStateDto(
-                seniorsByState.get(Risk.POSITIVE),
-                seniorsByState.get(Risk.DANGER),
-                seniorsByState.get(Risk.CRITICAL),
-                seniorsByState.get(Risk.EMERGENCY)
-        );
+    }
+
+    private DashboardBucketDto page(Projection current, Risk state, BucketKey after, int size) {
+        NavigableSet<BucketKey> bucket = current.buckets().get(state);
+        Iterator<BucketKey> keys = (after != null ? bucket.tailSet(after, false) : bucket).iterator();
+
+        List<DashboardSeniorDto> seniors = new ArrayList<>(size);
+        BucketKey last = null;
+        while (seniors.size() < size && keys.hasNext()) {
+            BucketKey key = keys.next();
+            DashboardEntry entry = current.seniors().get(key.seniorId());
+            if (entry == null || entry.state() != state || !entry.key().equals(key))
+                continue;
+            seniors.add(entry.senior());
+            last = key;
+        }
+
+        String nextCursor = last != null && keys.hasNext()
+                ? CursorUtil.encode(last.lastStateChangedAt(), last.seniorId())
+                : null;
+        return new DashboardBucketDto(seniors, nextCursor);
+    }
+
+    private StateCountDto stateCount() {
+        long positive = stateCounts.getOrDefault(Risk.POSITIVE, 0L);
+        long danger = stateCounts.getOrDefault(Risk.DANGER, 0L);
+        long critical = stateCounts.getOrDefault(Risk.CRITICAL, 0L);
+        long emergency = stateCounts.getOrDefault(Risk.EMERGENCY, 0L);
+        return new StateCountDto(positive + danger + critical + emergency, positive, danger, critical, emergency);
+    }
+
+    private DashboardEntry toEntry(Senior senior, OverallResult latestResult) {
+        return new DashboardEntry(senior.getState(),
+                DashboardSeniorDto.from(senior, senior.getLastStateChangedAt(), latestResult));
+    }
+
+    private record Projection(Map<Long, DashboardEntry> seniors, Map<Risk, NavigableSet<BucketKey>> buckets) {
+    }
+
+    private record DashboardEntry(Risk state, DashboardSeniorDto senior) {
+        private BucketKey key() {
+            return new BucketKey(senior.lastStateChangedAt(), senior.seniorId());
+        }
+    }
 
-        return new DashboardResponseDto(stateCountDto, seniorsByStateDto);
+    private record BucketKey(LocalDateTime lastStateChangedAt, Long seniorId) {
     }
-}
\ No newline at end of file
+}
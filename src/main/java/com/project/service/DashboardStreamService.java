@@ -0,0 +1,64 @@
+package com.project.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dto.sse.DashboardDeltaPayload;
+import com.project.sse.SseConnectionRegistry;
+import com.project.sse.SseConnectionRegistryFactory;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStreamService {
+    private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000;
+
+    private final ObjectMapper objectMapper;
+    private final SseConnectionRegistryFactory sseConnectionRegistryFactory;
+
+    private SseConnectionRegistry connections;
+
+    @PostConstruct
+    void init() {
+        connections = sseConnectionRegistryFactory.create("dashboard", DEFAULT_TIMEOUT);
+    }
+
+    public SseEmitter subscribe(String username, long version) {
+        SseEmitter emitter = connections.register(username);
+        connections.send(username, emitter, SseEmitter.event().id(String.valueOf(version)).name("connect").data(version));
+
+        log.info("새로운 대시보드 SSE 구독자: username={}, version={}, 연결 수={}", username, version,
+                connections.connectionCount(username));
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:PT15S}")
+    public void sendHeartbeat() {
+        connections.heartbeat();
+    }
+
+    public void publish(DashboardDeltaPayload delta) {
+        if (connections.isEmpty())
+            return;
+        String payloadJson;
+        try {
+            payloadJson = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            log.error("대시보드 변경 직렬화 실패: version={}, message={}", delta.version(), e.getMessage());
+            return;
+        }
+
+        int queued = connections.broadcast(SseEmitter.event()
+                .id(String.valueOf(delta.version()))
+                .name("dashboard-delta")
+                .data(payloadJson));
+        log.debug("대시보드 변경 전송 대기열 추가: version={}, type={}, subscribers={}", delta.version(), delta.type(), queued);
+    }
+}
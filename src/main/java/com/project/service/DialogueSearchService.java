@@ -0,0 +1,93 @@
+package com.project.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.domain.analysis.OverallResult;
+import com.project.dto.response.CustomPageDto;
+import com.project.dto.response.DialogueSearchResultDto;
+import com.project.persistence.OverallResultRepository;
+import com.project.search.DialogueSearchIndex;
+import com.project.search.SearchHitType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DialogueSearchService {
+    private static final int REBUILD_CHUNK_SIZE = 200;
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final DialogueSearchIndex dialogueSearchIndex;
+    private final OverallResultRepository overallResultRepository;
+
+    @Transactional(readOnly = true)
+    public CustomPageDto<DialogueSearchResultDto> search(String query, SearchHitType type, Long seniorId, Pageable pageable) {
+        log.info("대화 전문 검색: query={}, type={}, seniorId={}, pageable={}", query, type, seniorId, pageable);
+        int offset = (int) Math.min(pageable.getOffset(), MAX_RESULT_WINDOW);
+        int size = Math.min(pageable.getPageSize(), MAX_RESULT_WINDOW - offset);
+
+        DialogueSearchIndex.SearchResult result = dialogueSearchIndex.search(query, type, seniorId, offset, size);
+        List<Long> overallResultIds = result.hits().stream()
+                .map(DialogueSearchIndex.SearchHit::overallResultId)
+                .distinct()
+                .toList();
+        Map<Long, OverallResult> overallResults = overallResultRepository.findAllWithSeniorByIdIn(overallResultIds).stream()
+                .collect(Collectors.toMap(OverallResult::getId, Function.identity()));
+
+        List<DialogueSearchResultDto> content = result.hits().stream()
+                .filter(hit -> overallResults.containsKey(hit.overallResultId()))
+                .map(hit -> DialogueSearchResultDto.of(hit, overallResults.get(hit.overallResultId())))
+                .toList();
+        boolean hasNext = offset + result.hits().size() < Math.min(result.totalHits(), MAX_RESULT_WINDOW);
+        return CustomPageDto.of(content, pageable, result.totalHits(), result.totalEstimated(), hasNext);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void indexOverallResult(Long overallResultId) {
+        overallResultRepository.findAllWithDialoguesByIdIn(List.of(overallResultId))
+                .forEach(dialogueSearchIndex::index);
+    }
+
+    public void removeOverallResult(Long overallResultId) {
+        dialogueSearchIndex.deleteByOverallResult(overallResultId);
+    }
+
+    public void removeSenior(Long seniorId) {
+        dialogueSearchIndex.deleteBySenior(seniorId);
+    }
+
+    public void rebuildIfOutOfSync() {
+        long indexed = dialogueSearchIndex.countOverallResults();
+        long stored = overallResultRepository.count();
+        if (indexed != stored) {
+            log.info("전문 검색 색인이 DB와 불일치하여 재구성: indexed={}, stored={}", indexed, stored);
+            rebuild();
+        }
+    }
+
+    public long rebuild() {
+        dialogueSearchIndex.deleteAll();
+        long indexedCount = 0;
+        Long lastId = 0L;
+        List<Long> ids;
+        while (!(ids = overallResultRepository.findIdsAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE))).isEmpty()) {
+            overallResultRepository.findAllWithDialoguesByIdIn(ids).forEach(dialogueSearchIndex::index);
+            indexedCount += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+        dialogueSearchIndex.commit();
+        log.info("전문 검색 색인 재구성 완료: overallResultCount={}", indexedCount);
+        return indexedCount;
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.project.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,9 @@ import com.project.domain.member.Role;
 import com.project.dto.MemberDto;
 import com.project.dto.request.MemberUpdateRequestDto;
 import com.project.dto.request.SignUpRequestDto;
+import com.project.event.MemberDeletedEvent;
+import com.project.event.MemberRegisteredEvent;
+import com.project.event.MemberUpdatedEvent;
 import com.project.persistence.MemberRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -25,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberService {
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder encoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public MemberDto register(SignUpRequestDto requestDto) {
@@ -40,6 +45,7 @@ public class MemberService {
 				.build();
 		
 		memberRepository.save(member);
+		eventPublisher.publishEvent(new MemberRegisteredEvent(member.getUsername()));
 		log.info("회원 가입 성공: username={}", member.getUsername());
 		return new MemberDto(member);
 	}
@@ -65,6 +71,7 @@ public class MemberService {
     	log.info("회원 정보 수정 시도: username={}, role={}, enabled={}", username, requestDto.role(), requestDto.enabled());
         Member member = findMemberByUsername(username);
         member.update(requestDto.role(), requestDto.enabled());
+        eventPublisher.publishEvent(new MemberUpdatedEvent(username));
         log.info("회원 정보 수정 완료: username={}", username);
         return new MemberDto(member);
     }
@@ -84,6 +91,7 @@ public class MemberService {
         if (!memberRepository.existsByUsername(username))
             throw new EntityNotFoundException("사용자를 찾을 수 없습니다: " + username);
         memberRepository.deleteById(username);
+        eventPublisher.publishEvent(new MemberDeletedEvent(username));
         log.info("회원 삭제 완료: username={}", username);
     }
     
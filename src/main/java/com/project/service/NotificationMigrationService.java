@@ -0,0 +1,144 @@
+package com.project.service;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.domain.member.Member;
+import com.project.domain.notification.NotificationRead;
+import com.project.domain.notification.NotificationReadState;
+import com.project.persistence.MemberRepository;
+import com.project.persistence.NotificationReadRepository;
+import com.project.persistence.NotificationReadStateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationMigrationService {
+    private static final String LEGACY_TABLE = "notification";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberRepository memberRepository;
+    private final NotificationReadRepository notificationReadRepository;
+    private final NotificationReadStateRepository notificationReadStateRepository;
+
+    // 수신자별로 한 행씩 저장하던 이전 notification 테이블을 이벤트 + 사용자별 읽음 상태로 옮긴 뒤 제거
+    @Transactional
+    public int migrateLegacyNotifications() {
+        if (!legacyTableExists())
+            return 0;
+
+        List<LegacyRow> rows = jdbcTemplate.query(
+                "SELECT id, recipient_username, notification_type, message, related_resource_id, is_read, created_at "
+                        + "FROM " + LEGACY_TABLE + " ORDER BY id",
+                (rs, rowNum) -> new LegacyRow(rs.getString("recipient_username"), rs.getString("notification_type"),
+                        rs.getString("message"), rs.getString("related_resource_id"), rs.getBoolean("is_read"),
+                        rs.getTimestamp("created_at")));
+        log.info("이전 알림 테이블 이관 시작: rowCount={}", rows.size());
+
+        // 같은 알림을 관리자마다 연달아 저장했으므로, 내용이 같고 수신자가 겹치지 않는 연속 행을 한 이벤트로 묶음
+        SimpleJdbcInsert eventInsert = new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("notification_event")
+                .usingColumns("notification_type", "message", "related_resource_id", "created_at")
+                .usingGeneratedKeyColumns("id");
+        Map<String, TreeMap<Long, Boolean>> receivedByUser = new HashMap<>();
+        List<Long> eventIds = new ArrayList<>();
+        LegacyRow first = null;
+        Set<String> recipients = new HashSet<>();
+        long eventId = 0;
+        for (LegacyRow row : rows) {
+            if (first == null || !row.sameEventAs(first) || !recipients.add(row.recipient())) {
+                first = row;
+                recipients.clear();
+                recipients.add(row.recipient());
+                eventId = eventInsert.executeAndReturnKey(new MapSqlParameterSource()
+                        .addValue("notification_type", row.notificationType())
+                        .addValue("message", row.message())
+                        .addValue("related_resource_id", row.relatedResourceId())
+                        .addValue("created_at", row.createdAt())).longValue();
+                eventIds.add(eventId);
+            }
+            if (row.recipient() != null)
+                receivedByUser.computeIfAbsent(row.recipient(), username -> new TreeMap<>()).put(eventId, row.isRead());
+        }
+
+        long lastEventId = eventIds.isEmpty() ? 0 : eventIds.get(eventIds.size() - 1);
+        int seeded = 0;
+        for (Member member : memberRepository.findAll()) {
+            if (notificationReadStateRepository.existsById(member.getUsername()))
+                continue;
+            seedReadState(member.getUsername(), receivedByUser.getOrDefault(member.getUsername(), new TreeMap<>()),
+                    eventIds, lastEventId);
+            seeded++;
+        }
+
+        // DDL은 암묵적으로 커밋되므로, 삭제가 실패해도 다시 이관되지 않도록 행을 먼저 비우고 반영함
+        jdbcTemplate.update("DELETE FROM " + LEGACY_TABLE);
+        notificationReadRepository.flush();
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        log.info("이전 알림 테이블 이관 완료: eventCount={}, seededMemberCount={}", eventIds.size(), seeded);
+        return eventIds.size();
+    }
+
+    // 처음 받은 알림 이전은 삭제했거나 받지 않은 것으로 보고 숨기고, 이후 받지 않은 알림은 읽음으로 처리
+    private void seedReadState(String username, TreeMap<Long, Boolean> received, List<Long> eventIds, long lastEventId) {
+        long clearedUpTo = received.isEmpty() ? lastEventId : received.firstKey() - 1;
+        NotificationReadState state = new NotificationReadState(username, clearedUpTo);
+        List<NotificationRead> reads = new ArrayList<>();
+        boolean contiguous = true;
+        for (Long id : eventIds) {
+            if (id <= clearedUpTo)
+                continue;
+            boolean read = received.getOrDefault(id, true);
+            if (read && contiguous)
+                state.markAllAsRead(id);
+            else if (read)
+                reads.add(new NotificationRead(username, id));
+            else
+                contiguous = false;
+        }
+        notificationReadStateRepository.save(state);
+        notificationReadRepository.saveAll(reads);
+    }
+
+    private boolean legacyTableExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : List.of(LEGACY_TABLE, LEGACY_TABLE.toUpperCase(Locale.ROOT))) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[] { "TABLE" })) {
+                    if (tables.next())
+                        return true;
+                }
+            }
+            return false;
+        }));
+    }
+
+    private record LegacyRow(String recipient, String notificationType, String message, String relatedResourceId,
+            boolean isRead, Timestamp createdAt) {
+        private boolean sameEventAs(LegacyRow other) {
+            return notificationType.equals(other.notificationType)
+                    && Objects.equals(message, other.message)
+                    && Objects.equals(relatedResourceId, other.relatedResourceId);
+        }
+    }
+}
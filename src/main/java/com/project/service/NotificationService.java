@@ -1,28 +1,43 @@
 package com.project.service;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.domain.analysis.Risk;
 import com.project.domain.member.Member;
 import com.project.domain.member.Role;
 import com.project.domain.notification.Notification;
+import com.project.domain.notification.NotificationRead;
+import com.project.domain.notification.NotificationReadState;
 import com.project.domain.notification.NotificationType;
 import com.project.domain.senior.Senior;
+import com.project.dto.response.AnalysisJobResponseDto;
 import com.project.dto.response.AnalysisResponseWithIdDto;
 import com.project.dto.response.NotificationResponseDto;
+import com.project.dto.response.UnreadNotificationCountResponseDto;
 import com.project.dto.sse.SseNotificationPayload;
+import com.project.event.NotificationCreatedEvent;
 import com.project.persistence.MemberRepository;
+import com.project.persistence.NotificationReadRepository;
+import com.project.persistence.NotificationReadStateRepository;
 import com.project.persistence.NotificationRepository;
+import com.project.sse.SseConnectionRegistry;
+import com.project.sse.SseConnectionRegistryFactory;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,58 +47,129 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
     private final NotificationRepository notificationRepository;
+    private final NotificationReadStateRepository notificationReadStateRepository;
+    private final NotificationReadRepository notificationReadRepository;
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SseConnectionRegistryFactory sseConnectionRegistryFactory;
 
     private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000;
 
-    public SseEmitter subscribe(String username) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(username, emitter);
+    @Value("${sse.replay.max-events:100}")
+    private int maxReplayEvents;
 
-        emitter.onCompletion(() -> emitters.remove(username));
-        emitter.onTimeout(() -> emitters.remove(username));
+    @Value("${notification.admin-roster-ttl:PT5M}")
+    private Duration adminRosterTtl;
 
+    private SseConnectionRegistry connections;
+    private volatile AdminRoster adminRoster;
+
+    @PostConstruct
+    void init() {
+        connections = sseConnectionRegistryFactory.create("notifications", DEFAULT_TIMEOUT);
+    }
+
+    public SseEmitter subscribe(String username, String lastEventId) {
+        SseEmitter emitter = connections.register(username);
+
+        connections.send(username, emitter, SseEmitter.event().name("connect").data("SSE 연결완료: " + username));
         try {
-            emitter.send(SseEmitter.event().id(username).name("connect").data("SSE 연결완료: " + username));
-        } catch (IOException e) {
-            log.error("{}에 대한 첫 SSE 연결 실패: {}", username, e.getMessage());
-            emitters.remove(username);
+            replayMissedNotifications(username, emitter, lastEventId);
+        } catch (Exception e) {
+            log.error("'{}'에게 놓친 알림 재전송 실패: {}", username, e.getMessage());
         }
 
-        log.info("새로운 SSE 구독자: {}", username);
+        log.info("새로운 SSE 구독자: {}, 연결 수={}, lastEventId={}", username, connections.connectionCount(username), lastEventId);
         return emitter;
     }
 
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:PT15S}")
+    public void sendHeartbeat() {
+        connections.heartbeat();
+    }
+
+    public void dispatch(NotificationCreatedEvent event) {
+        if (connections.isEmpty()) {
+            log.info("접속 중인 관리자 없음, DB에만 저장: notificationId={}", event.payload().notificationId());
+            return;
+        }
+        try {
+            int queued = connections.send(adminRoster(), notificationEvent("notification", event.payload()));
+            log.info("알림 전송 대기열 추가: notificationId={}, 연결 수={}", event.payload().notificationId(), queued);
+        } catch (Exception e) {
+            log.error("알림 전송 실패: notificationId={}, message={}", event.payload().notificationId(), e.getMessage());
+        }
+    }
+
+    private void replayMissedNotifications(String username, SseEmitter emitter, String lastEventId)
+            throws JsonProcessingException {
+        Long lastNotificationId = parseLastEventId(lastEventId);
+        if (lastNotificationId == null)
+            return;
+        NotificationReadState state = readState(username);
+        List<Notification> missed = notificationRepository.findByIdGreaterThanOrderByIdAsc(
+                Math.max(lastNotificationId, state.getClearedWatermark()), PageRequest.of(0, maxReplayEvents));
+        if (missed.isEmpty())
+            return;
+        Set<Long> readIds = notificationReadRepository.findNotificationIdsAfter(username, state.getReadWatermark());
+        for (Notification notification : missed) {
+            boolean isRead = state.isRead(notification.getId()) || readIds.contains(notification.getId());
+            connections.send(username, emitter, notificationEvent("notification", SseNotificationPayload.from(notification, isRead)));
+        }
+        log.info("'{}'에게 놓친 알림 재전송: lastEventId={}, count={}", username, lastNotificationId, missed.size());
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank())
+            return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.warn("알림 ID가 아닌 Last-Event-ID 무시: {}", lastEventId);
+            return null;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder notificationEvent(String eventName, SseNotificationPayload payload)
+            throws JsonProcessingException {
+        return SseEmitter.event()
+                .id(String.valueOf(payload.notificationId()))
+                .name(eventName)
+                .data(objectMapper.writeValueAsString(payload));
+    }
+
+    private List<String> adminRoster() {
+        AdminRoster roster = adminRoster;
+        if (roster == null || roster.isExpired(adminRosterTtl)) {
+            List<String> usernames = memberRepository.findByRole(Role.ROLE_ADMIN).stream()
+                    .filter(Member::isEnabled)
+                    .map(Member::getUsername)
+                    .toList();
+            roster = new AdminRoster(usernames, System.nanoTime());
+            adminRoster = roster;
+            log.debug("알림 수신 관리자 목록 갱신: count={}", usernames.size());
+        }
+        return roster.usernames();
+    }
+
+    public void invalidateAdminRoster() {
+        adminRoster = null;
+    }
+
     @Transactional
     public void sendAnalysisCompleteNotificationToAdmins(AnalysisResponseWithIdDto analysisResult) {
-    	List<Member> admins = memberRepository.findByRole(Role.ROLE_ADMIN);
-
         String message = String.format("인형 '%s'의 분석이 완료되었습니다. (결과: %s)",
                 analysisResult.overallResult().dollId(),
                 analysisResult.overallResult().label());
         String resourceId = String.valueOf(analysisResult.id());
 
-        for (Member admin : admins) {
-            if (!admin.isEnabled()) continue;
-            Notification notification = Notification.builder()
-                    .recipient(admin)
-                    .notificationType(NotificationType.ANALYSIS_COMPLETE)
-                    .message(message)
-                    .relatedResourceId(resourceId)
-                    .build();
-            notificationRepository.save(notification);
-
-            sendNotificationToUser(admin.getUsername(), "notification", notification);
-        }
+        publish(NotificationType.ANALYSIS_COMPLETE, message, resourceId);
     }
     
     @Transactional
     public void sendStateChangeNotificationToAdmins(Senior senior, Risk previousState, Risk newState, String reason) {
-        List<Member> admins = memberRepository.findByRole(Role.ROLE_ADMIN);
-
         String message = String.format("'%s'님의 상태가 %s에서 %s로 변경되었습니다. (사유: %s)",
                 senior.getName(),
                 previousState != null ? previousState.name() : "신규",
@@ -91,64 +177,105 @@ public class NotificationService {
                 reason);
         String resourceId = String.valueOf(senior.getId());
 
-        for (Member admin : admins) {
-            if (!admin.isEnabled()) continue;
-            Notification notification = Notification.builder()
-                    .recipient(admin)
-                    .notificationType(NotificationType.SENIOR_STATE_CHANGED)
-                    .message(message)
-                    .relatedResourceId(resourceId)
-                    .build();
-            notificationRepository.save(notification);
-
-            sendNotificationToUser(admin.getUsername(), "notification", notification);
-        }
+        publish(NotificationType.SENIOR_STATE_CHANGED, message, resourceId);
+    }
+
+    private void publish(NotificationType notificationType, String message, String resourceId) {
+        Notification notification = Notification.builder()
+                .notificationType(notificationType)
+                .message(message)
+                .relatedResourceId(resourceId)
+                .build();
+        notificationRepository.save(notification);
+
+        eventPublisher.publishEvent(new NotificationCreatedEvent(SseNotificationPayload.from(notification, false)));
     }
 
-    private void sendNotificationToUser(String username, String eventName, Notification notification) {
-        SseEmitter emitter = emitters.get(username);
-        if (emitter != null) {
-            try {
-                SseNotificationPayload payload = SseNotificationPayload.from(notification);
-                String payloadJson = objectMapper.writeValueAsString(payload);
-
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(payloadJson));
-                log.info("'{}'로 알림 전송 완료: {}", username, payloadJson);
-            } catch (Exception e) {
-                log.error("'{}'로 알림 전송 실패: {}", username, e.getMessage());
-                emitters.remove(username);
-            }
-        } else {
-            log.info("'{}'는 오프라인, DB에 저장", username);
+    public void sendAnalysisJobNotification(String username, AnalysisJobResponseDto job) {
+        if (!connections.isConnected(username)) {
+            log.info("'{}'는 오프라인, 분석 작업 알림 생략: jobId={}", username, job.jobId());
+            return;
+        }
+        try {
+            int queued = connections.send(username, SseEmitter.event()
+                    .name("analysis-job")
+                    .data(objectMapper.writeValueAsString(job)));
+            log.info("'{}'로 분석 작업 알림 전송 대기열 추가: jobId={}, status={}, 연결 수={}", username, job.jobId(), job.status(), queued);
+        } catch (Exception e) {
+            log.error("'{}'로 분석 작업 알림 전송 실패: {}", username, e.getMessage());
         }
     }
 
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getNotificationsForUser(String username) {
-        return notificationRepository.findByRecipientUsernameOrderByCreatedAtDesc(username)
+        NotificationReadState state = readState(username);
+        Set<Long> readIds = notificationReadRepository.findNotificationIdsAfter(username, state.getReadWatermark());
+        return notificationRepository.findByIdGreaterThanOrderByIdDesc(state.getClearedWatermark())
                 .stream()
-                .map(NotificationResponseDto::from)
+                .map(notification -> NotificationResponseDto.from(notification,
+                        state.isRead(notification.getId()) || readIds.contains(notification.getId())))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public UnreadNotificationCountResponseDto getUnreadCount(String username) {
+        NotificationReadState state = readState(username);
+        long unreadCount = notificationRepository.countByIdGreaterThan(state.getReadWatermark())
+                - notificationReadRepository.countByUsernameAndNotificationIdGreaterThan(username, state.getReadWatermark());
+        return new UnreadNotificationCountResponseDto(Math.max(0, unreadCount));
+    }
+
     @Transactional
-    public void markAsRead(Long notificationId) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new EntityNotFoundException("ID " + notificationId + "인 알림 없음"));
-        notification.markAsRead();
+    public void markAsRead(String username, Long notificationId) {
+        NotificationReadState state = readState(username);
+        if (!notificationRepository.existsById(notificationId) || state.isCleared(notificationId))
+            throw new EntityNotFoundException("ID " + notificationId + "인 알림 없음");
+        if (state.isRead(notificationId) || notificationReadRepository.existsByUsernameAndNotificationId(username, notificationId))
+            return;
+        notificationReadRepository.save(new NotificationRead(username, notificationId));
     }
     
     @Transactional
     public void markAllAsRead(String username) {
-        notificationRepository.markAllAsReadByUsername(username);
+        long lastNotificationId = notificationRepository.findMaxId();
+        notificationReadRepository.deleteUpTo(username, lastNotificationId);
+        persistentReadState(username).markAllAsRead(lastNotificationId);
         log.info("사용자 '{}'의 모든 알림 읽음 처리 완료", username);
     }
 
     @Transactional
     public void deleteAllNotifications(String username) {
-        notificationRepository.deleteAllByUsername(username);
+        long lastNotificationId = notificationRepository.findMaxId();
+        notificationReadRepository.deleteUpTo(username, lastNotificationId);
+        persistentReadState(username).clear(lastNotificationId);
         log.info("사용자 '{}'의 모든 알림 삭제 완료", username);
     }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void initializeReadState(String username) {
+        if (!notificationReadStateRepository.existsById(username))
+            notificationReadStateRepository.save(new NotificationReadState(username, notificationRepository.findMaxId()));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void deleteReadState(String username) {
+        notificationReadRepository.deleteAllByUsername(username);
+        notificationReadStateRepository.deleteById(username);
+    }
+
+    private NotificationReadState readState(String username) {
+        return notificationReadStateRepository.findById(username)
+                .orElseGet(() -> new NotificationReadState(username, 0));
+    }
+
+    private NotificationReadState persistentReadState(String username) {
+        return notificationReadStateRepository.findById(username)
+                .orElseGet(() -> notificationReadStateRepository.save(new NotificationReadState(username, 0)));
+    }
+
+    private record AdminRoster(List<String> usernames, long loadedAt) {
+        private boolean isExpired(Duration ttl) {
+            return System.nanoTime() - loadedAt > ttl.toNanos();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.project.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.project.dto.request.CountMode;
+import com.project.dto.response.CustomPageDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class SearchCountService {
+    public static final String OVERALL_RESULTS = "overall-results";
+    public static final String SENIORS = "seniors";
+
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Value("${search.count.cache-ttl:PT30S}")
+    private Duration cacheTtl;
+
+    @Value("${search.count.cache-max-entries:1000}")
+    private int maxEntries;
+
+    public <T> CustomPageDto<T> page(String scope, Object condition, Pageable pageable, List<T> rows,
+            CountMode countMode, LongSupplier counter, LongSupplier estimator) {
+        int pageSize = pageable.getPageSize();
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        long seen = pageable.getOffset() + content.size();
+
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0))
+            return CustomPageDto.of(content, pageable, seen, false, false);
+
+        long lowerBound = hasNext ? seen + 1 : seen;
+        return switch (countMode != null ? countMode : CountMode.EXACT) {
+            case NONE -> CustomPageDto.of(content, pageable, null, false, hasNext);
+            case ESTIMATED -> estimator != null
+                    ? CustomPageDto.of(content, pageable, Math.max(estimator.getAsLong(), lowerBound), true, hasNext)
+                    : CustomPageDto.of(content, pageable, Math.max(count(scope, condition, counter), lowerBound), false, hasNext);
+            case EXACT -> CustomPageDto.of(content, pageable, Math.max(count(scope, condition, counter), lowerBound), false, hasNext);
+        };
+    }
+
+    public void invalidate(String scope) {
+        generation(scope).incrementAndGet();
+        counts.keySet().removeIf(key -> key.scope().equals(scope));
+        log.debug("검색 건수 캐시 무효화: scope={}", scope);
+    }
+
+    private long count(String scope, Object condition, LongSupplier counter) {
+        CountKey key = new CountKey(scope, condition);
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() - now > 0)
+            return cached.value();
+
+        long generation = generation(scope).get();
+        long value = counter.getAsLong();
+        if (generation(scope).get() == generation) {
+            if (counts.size() >= maxEntries)
+                evict(now);
+            counts.put(key, new CachedCount(value, now + cacheTtl.toNanos()));
+        }
+        return value;
+    }
+
+    private void evict(long now) {
+        counts.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+        if (counts.size() >= maxEntries)
+            counts.clear();
+    }
+
+    private AtomicLong generation(String scope) {
+        return generations.computeIfAbsent(scope, s -> new AtomicLong());
+    }
+
+    private record CountKey(String scope, Object condition) {
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
\ No newline at end of file
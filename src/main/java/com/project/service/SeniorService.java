@@ -1,19 +1,22 @@
 package com.project.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.project.domain.analysis.OverallResult;
@@ -23,19 +26,28 @@ import com.project.domain.senior.Doll;
 import com.project.domain.senior.Guardian;
 import com.project.domain.senior.MedicalInfo;
 import com.project.domain.senior.Senior;
+import com.project.dto.request.CountMode;
 import com.project.dto.request.SeniorRequestDto;
 import com.project.dto.request.SeniorSearchCondition;
 import com.project.dto.request.UpdateSeniorStateRequestDto;
+import com.project.dto.response.CursorPageDto;
+import com.project.dto.response.CustomPageDto;
 import com.project.dto.response.RecentOverallResultDto;
 import com.project.dto.response.SeniorDetailResponseDto;
 import com.project.dto.response.SeniorListResponseDto;
 import com.project.dto.response.SeniorResponseDto;
 import com.project.dto.response.SeniorStateHistoryResponseDto;
+import com.project.event.AnalysisResolvedEvent;
+import com.project.event.SeniorDeletedEvent;
 import com.project.event.SeniorStateChangedEvent;
+import com.project.event.SeniorUpdatedEvent;
 import com.project.persistence.DollRepository;
 import com.project.persistence.OverallResultRepository;
 import com.project.persistence.SeniorRepository;
 import com.project.persistence.SeniorStateHistoryRepository;
+import com.project.search.SeniorAutocompleteIndex;
+import com.project.util.CsvExportUtil;
+import com.project.util.CursorUtil;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -45,14 +57,24 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class SeniorService {
+	private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+	private static final String[] SENIOR_CSV_HEADER = {
+			"senior_id", "name", "age", "sex", "gu", "dong", "state", "doll_id", "phone", "created_at" };
+
 	private final SeniorRepository seniorRepository;
 	private final DollRepository dollRepository;
 	private final OverallResultRepository overallResultRepository;
 	private final SeniorStateHistoryRepository seniorStateHistoryRepository;
+	private final SearchCountService searchCountService;
+	private final SeniorAutocompleteIndex seniorAutocompleteIndex;
+	private final SeniorSummaryRepairService seniorSummaryRepairService;
 	private final ApplicationEventPublisher eventPublisher;
 
 	@Value("${senior.photo.upload-path}")
     private String uploadPath;
+
+	@Value("${export.fetch-size:1000}")
+	private int exportFetchSize;
 	
 	@Transactional
 	public SeniorResponseDto createSenior(SeniorRequestDto requestDto, MultipartFile photo) {
@@ -80,11 +102,48 @@ public class SeniorService {
 	}
 
 	@Transactional(readOnly = true)
-    public Page<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, Pageable pageable) {
-		log.info("시니어 목록 검색: condition={}, pageable={}", condition, pageable);
-        return seniorRepository.searchSeniors(condition, pageable);
+    public CustomPageDto<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, Pageable pageable, CountMode countMode) {
+		log.info("시니어 목록 검색: condition={}, pageable={}, countMode={}", condition, pageable, countMode);
+		List<SeniorListResponseDto> rows = seniorRepository.searchSeniors(condition, pageable.getOffset(), pageable.getPageSize() + 1);
+		return searchCountService.page(SearchCountService.SENIORS, condition, pageable, rows, countMode,
+				() -> seniorRepository.countSeniors(condition), null);
     }
+
+	@Transactional(readOnly = true)
+    public CursorPageDto<SeniorListResponseDto> searchSeniors(SeniorSearchCondition condition, String cursor, int size) {
+		log.info("시니어 목록 커서 검색: condition={}, cursor={}, size={}", condition, cursor, size);
+		int limit = CursorPageDto.limitOf(size);
+		List<SeniorListResponseDto> rows = seniorRepository.searchSeniors(condition, CursorUtil.decode(cursor), limit + 1);
+		return CursorPageDto.of(rows, limit, dto -> CursorUtil.encode(dto.createdAt(), dto.seniorId()));
+    }
+
+	@Transactional(readOnly = true)
+	public void exportSeniors(SeniorSearchCondition condition, OutputStream out) throws IOException {
+		log.info("시니어 목록 CSV 내보내기 시작: condition={}", condition);
+		try (Stream<SeniorListResponseDto> rows = seniorRepository.streamSeniors(condition, exportFetchSize)) {
+			long count = CsvExportUtil.write(out, SENIOR_CSV_HEADER, rows, dto -> new String[] {
+					CsvExportUtil.valueOf(dto.seniorId()),
+					CsvExportUtil.valueOf(dto.name()),
+					CsvExportUtil.valueOf(dto.age()),
+					CsvExportUtil.valueOf(dto.sex()),
+					CsvExportUtil.valueOf(dto.gu()),
+					CsvExportUtil.valueOf(dto.dong()),
+					CsvExportUtil.valueOf(dto.state()),
+					CsvExportUtil.valueOf(dto.dollId()),
+					CsvExportUtil.valueOf(dto.phone()),
+					CsvExportUtil.valueOf(dto.createdAt())
+			});
+			log.info("시니어 목록 CSV 내보내기 완료: rowCount={}", count);
+		}
+	}
 	
+	public List<SeniorListResponseDto> autocompleteSeniors(String query, int limit) {
+		log.debug("시니어 이름 자동완성: query={}, limit={}", query, limit);
+		if (!StringUtils.hasText(query))
+			return List.of();
+		return seniorAutocompleteIndex.search(query, Math.clamp(limit, 1, MAX_AUTOCOMPLETE_LIMIT));
+	}
+
 	@Transactional(readOnly = true)
     public SeniorDetailResponseDto getSeniorDetails(Long id) {
 		log.info("특정 시니어 상세 정보 조회: seniorId={}", id);
@@ -134,6 +193,7 @@ public class SeniorService {
         }
 
 		updateSenior(existingSenior, seniorDto, newPhotoFilename);
+		eventPublisher.publishEvent(new SeniorUpdatedEvent(id));
 		log.info("시니어 정보 수정 완료: seniorId={}", id);
 		return new SeniorResponseDto(existingSenior);
 	}
@@ -152,6 +212,7 @@ public class SeniorService {
             if (!overallResult.getSenior().getId().equals(seniorId))
                 throw new IllegalArgumentException("해당 분석 결과는 senior ID " + seniorId + "에 속하지 않습니다.");
             overallResult.resolveWithLabel(newState);
+            eventPublisher.publishEvent(new AnalysisResolvedEvent(seniorId, overallResult.getId()));
             log.info("분석 ID {}가 조치 완료 처리되었습니다.", requestDto.overallResultId());
         }
 	    
@@ -187,9 +248,23 @@ public class SeniorService {
 	        senior.changeDoll(null);
 		}
 		seniorRepository.deleteById(id);
+		eventPublisher.publishEvent(new SeniorDeletedEvent(id));
 		log.info("시니어 삭제 완료: seniorId={}", id);
 	}
 	
+	// 시니어마다 짧은 트랜잭션으로 잠금을 잡고 재구성하므로, 운영 중에도 분석 저장을 오래 막지 않음
+	@Scheduled(cron = "${senior.summary.repair-cron:0 0 4 * * *}")
+	public int repairAnalysisSummaries() {
+		log.info("시니어 분석 요약 정보 재구성 시작");
+		int repaired = 0;
+		for (Long seniorId : seniorRepository.findAllIds()) {
+			if (seniorSummaryRepairService.repair(seniorId))
+				repaired++;
+		}
+		log.info("시니어 분석 요약 정보 재구성 완료: repairedCount={}", repaired);
+		return repaired;
+	}
+
 	private String savePhoto(MultipartFile photo) {
         if (photo == null || photo.isEmpty()) {
             return null;
@@ -0,0 +1,57 @@
+package com.project.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.domain.analysis.OverallResult;
+import com.project.domain.analysis.Risk;
+import com.project.domain.senior.AnalysisCounts;
+import com.project.domain.senior.Senior;
+import com.project.event.SeniorUpdatedEvent;
+import com.project.persistence.OverallResultRepository;
+import com.project.persistence.SeniorRepository;
+import com.project.persistence.SeniorStateHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SeniorSummaryRepairService {
+    private final SeniorRepository seniorRepository;
+    private final OverallResultRepository overallResultRepository;
+    private final SeniorStateHistoryRepository seniorStateHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 분석 저장/삭제와 같은 시니어 행 잠금을 잡은 채 집계하므로, 그 사이 저장된 결과가 덮어써지지 않음
+    @Transactional
+    public boolean repair(Long seniorId) {
+        Senior senior = seniorRepository.findByIdForUpdate(seniorId).orElse(null);
+        if (senior == null)
+            return false;
+
+        Map<Risk, Long> counts = new EnumMap<>(Risk.class);
+        for (Object[] row : overallResultRepository.countResultsByLabelForSenior(seniorId))
+            counts.put((Risk) row[0], (Long) row[1]);
+        AnalysisCounts analysisCounts = AnalysisCounts.builder()
+                .positiveCount(counts.getOrDefault(Risk.POSITIVE, 0L))
+                .dangerCount(counts.getOrDefault(Risk.DANGER, 0L))
+                .criticalCount(counts.getOrDefault(Risk.CRITICAL, 0L))
+                .emergencyCount(counts.getOrDefault(Risk.EMERGENCY, 0L))
+                .build();
+        Long latestOverallResultId = overallResultRepository.findFirstBySeniorIdOrderByTimestampDescIdDesc(seniorId)
+                .map(OverallResult::getId)
+                .orElse(null);
+        LocalDateTime lastStateChangedAt = seniorStateHistoryRepository.findLatestStateChangeTimestamp(seniorId)
+                .orElse(senior.getCreatedAt());
+
+        if (!senior.restoreAnalysisSummary(latestOverallResultId, lastStateChangedAt, analysisCounts))
+            return false;
+        eventPublisher.publishEvent(new SeniorUpdatedEvent(seniorId));
+        return true;
+    }
+}
@@ -0,0 +1,6 @@
+package com.project.sse;
+
+public enum SlowConsumerPolicy {
+    DROP_OLDEST,
+    DISCONNECT
+}
\ No newline at end of file
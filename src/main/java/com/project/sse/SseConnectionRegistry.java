@@ -0,0 +1,312 @@
+package com.project.sse;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.exception.SseConnectionLimitException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SseConnectionRegistry {
+    private final String stream;
+    private final long timeout;
+    private final int maxConnectionsPerUser;
+    private final int maxConnections;
+    private final int queueCapacity;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final Executor dispatchExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> userGauges = new HashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger queuedEventCount = new AtomicInteger();
+    private final Counter reapedConnections;
+    private final Counter droppedEvents;
+    private final Counter disconnectedConnections;
+    private final Timer dispatchLag;
+
+    public SseConnectionRegistry(String stream, long timeout, int maxConnectionsPerUser, int maxConnections,
+            int queueCapacity, SlowConsumerPolicy slowConsumerPolicy, Executor dispatchExecutor, MeterRegistry meterRegistry) {
+        this.stream = stream;
+        this.timeout = timeout;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxConnections = maxConnections;
+        this.queueCapacity = queueCapacity;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+        this.dispatchExecutor = dispatchExecutor;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("sse.connections.active", connectionCount, AtomicInteger::get)
+                .description("열려 있는 SSE 연결 수")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        Gauge.builder("sse.dispatch.queue.depth", queuedEventCount, AtomicInteger::get)
+                .description("SSE 연결별 전송 대기열에 쌓인 이벤트 수 합계")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        this.reapedConnections = Counter.builder("sse.connections.reaped")
+                .description("전송 실패로 정리된 SSE 연결 수")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("sse.dispatch.dropped")
+                .description("느린 구독자의 대기열이 가득 차 버려진 SSE 이벤트 수")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        this.disconnectedConnections = Counter.builder("sse.dispatch.disconnected")
+                .description("대기열이 가득 차 강제로 끊은 느린 SSE 연결 수")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        this.dispatchLag = Timer.builder("sse.dispatch.lag")
+                .description("SSE 이벤트가 대기열에 들어간 뒤 전송되기까지 걸린 시간")
+                .tag("stream", stream)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter register(String username) {
+        Connection connection = new Connection(username, new SseEmitter(timeout));
+        List<Connection> evicted = new ArrayList<>();
+        synchronized (this) {
+            List<Connection> userConnections = connections.getOrDefault(username, List.of());
+            int evictCount = Math.max(0, userConnections.size() - maxConnectionsPerUser + 1);
+            if (connectionCount.get() - evictCount >= maxConnections) {
+                log.warn("SSE 연결 수 상한 도달로 연결 거부: stream={}, username={}, max={}", stream, username, maxConnections);
+                throw new SseConnectionLimitException("동시 접속이 많아 실시간 연결을 열 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            evicted.addAll(userConnections.subList(0, evictCount));
+            evicted.forEach(this::detach);
+            connections.computeIfAbsent(username, u -> new CopyOnWriteArrayList<>()).add(connection);
+            connectionCount.incrementAndGet();
+            userGauges.computeIfAbsent(username, this::registerUserGauge);
+        }
+
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> remove(username, emitter));
+        emitter.onTimeout(() -> remove(username, emitter));
+        emitter.onError(e -> remove(username, emitter));
+        for (Connection oldest : evicted) {
+            log.info("사용자별 SSE 연결 수 상한으로 가장 오래된 연결 종료: stream={}, username={}", stream, username);
+            oldest.emitter.complete();
+        }
+        return emitter;
+    }
+
+    public void remove(String username, SseEmitter emitter) {
+        synchronized (this) {
+            List<Connection> userConnections = connections.get(username);
+            if (userConnections == null)
+                return;
+            for (Connection connection : userConnections) {
+                if (connection.emitter == emitter) {
+                    detach(connection);
+                    return;
+                }
+            }
+        }
+    }
+
+    public boolean send(String username, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        List<Connection> userConnections = connections.get(username);
+        if (userConnections == null)
+            return false;
+        for (Connection connection : userConnections) {
+            if (connection.emitter == emitter)
+                return enqueue(connection, event.build());
+        }
+        return false;
+    }
+
+    public int send(String username, SseEmitter.SseEventBuilder event) {
+        List<Connection> userConnections = connections.get(username);
+        if (userConnections == null)
+            return 0;
+        return enqueue(userConnections, event.build());
+    }
+
+    public int send(Collection<String> usernames, SseEmitter.SseEventBuilder event) {
+        Set<DataWithMediaType> data = event.build();
+        int queued = 0;
+        for (String username : usernames) {
+            List<Connection> userConnections = connections.get(username);
+            if (userConnections != null)
+                queued += enqueue(userConnections, data);
+        }
+        return queued;
+    }
+
+    public int broadcast(SseEmitter.SseEventBuilder event) {
+        Set<DataWithMediaType> data = event.build();
+        int queued = 0;
+        for (List<Connection> userConnections : connections.values()) {
+            queued += enqueue(userConnections, data);
+        }
+        return queued;
+    }
+
+    public void heartbeat() {
+        Set<DataWithMediaType> data = SseEmitter.event().comment("heartbeat").build();
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                if (connection.isIdle())
+                    enqueue(connection, data);
+            }
+        }
+    }
+
+    public boolean isConnected(String username) {
+        return connections.containsKey(username);
+    }
+
+    public boolean isEmpty() {
+        return connectionCount.get() == 0;
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    public int connectionCount(String username) {
+        List<Connection> userConnections = connections.get(username);
+        return userConnections != null ? userConnections.size() : 0;
+    }
+
+    private int enqueue(List<Connection> userConnections, Set<DataWithMediaType> data) {
+        int queued = 0;
+        for (Connection connection : userConnections) {
+            if (enqueue(connection, data))
+                queued++;
+        }
+        return queued;
+    }
+
+    private boolean enqueue(Connection connection, Set<DataWithMediaType> data) {
+        boolean overflow = false;
+        boolean startDrain = false;
+        synchronized (connection) {
+            if (connection.closed)
+                return false;
+            if (connection.queue.size() >= queueCapacity) {
+                if (slowConsumerPolicy == SlowConsumerPolicy.DISCONNECT) {
+                    overflow = true;
+                } else {
+                    connection.queue.poll();
+                    queuedEventCount.decrementAndGet();
+                    droppedEvents.increment();
+                }
+            }
+            if (!overflow) {
+                connection.queue.add(new QueuedEvent(data, System.nanoTime()));
+                queuedEventCount.incrementAndGet();
+                startDrain = !connection.draining;
+                connection.draining = true;
+            }
+        }
+
+        if (overflow) {
+            log.warn("'{}'의 SSE 전송 대기열이 가득 차 느린 연결을 끊음: stream={}, capacity={}", connection.username, stream, queueCapacity);
+            disconnectedConnections.increment();
+            remove(connection.username, connection.emitter);
+            connection.emitter.complete();
+            return false;
+        }
+        if (startDrain) {
+            try {
+                dispatchExecutor.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                log.warn("SSE 전송 작업 시작 실패: stream={}, username={}", stream, connection.username);
+                synchronized (connection) {
+                    connection.draining = false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void drain(Connection connection) {
+        while (true) {
+            QueuedEvent next;
+            synchronized (connection) {
+                next = connection.queue.poll();
+                if (next == null || connection.closed) {
+                    connection.draining = false;
+                    return;
+                }
+            }
+            queuedEventCount.decrementAndGet();
+            try {
+                connection.emitter.send(next.data());
+                dispatchLag.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("'{}'의 SSE 연결 하나로 전송 실패, 해당 연결만 제거: stream={}, message={}", connection.username, stream, e.getMessage());
+                reapedConnections.increment();
+                remove(connection.username, connection.emitter);
+            }
+        }
+    }
+
+    private void detach(Connection connection) {
+        List<Connection> userConnections = connections.get(connection.username);
+        if (userConnections == null || !userConnections.remove(connection))
+            return;
+        connectionCount.decrementAndGet();
+        if (userConnections.isEmpty()) {
+            connections.remove(connection.username);
+            // 마지막 연결이 닫힌 사용자의 게이지는 지워서, 한 번이라도 접속한 사용자 수만큼 미터가 쌓이지 않게 함
+            Gauge gauge = userGauges.remove(connection.username);
+            if (gauge != null)
+                meterRegistry.remove(gauge);
+        }
+        synchronized (connection) {
+            connection.closed = true;
+            queuedEventCount.addAndGet(-connection.queue.size());
+            connection.queue.clear();
+        }
+    }
+
+    private Gauge registerUserGauge(String username) {
+        return Gauge.builder("sse.connections.user", this, registry -> registry.connectionCount(username))
+                .description("사용자별 열려 있는 SSE 연결 수")
+                .tag("stream", stream)
+                .tag("username", username)
+                .register(meterRegistry);
+    }
+
+    private static class Connection {
+        private final String username;
+        private final SseEmitter emitter;
+        private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private Connection(String username, SseEmitter emitter) {
+            this.username = username;
+            this.emitter = emitter;
+        }
+
+        private synchronized boolean isIdle() {
+            return !closed && queue.isEmpty() && !draining;
+        }
+    }
+
+    private record QueuedEvent(Set<DataWithMediaType> data, long enqueuedAt) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.project.sse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SseConnectionRegistryFactory {
+    private final SimpleAsyncTaskExecutor sseDispatchExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sse.connections.max-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${sse.connections.max-total:1000}")
+    private int maxConnections;
+
+    @Value("${sse.dispatch.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${sse.dispatch.slow-consumer-policy:DROP_OLDEST}")
+    private SlowConsumerPolicy slowConsumerPolicy;
+
+    public SseConnectionRegistry create(String stream, long timeout) {
+        return new SseConnectionRegistry(stream, timeout, maxConnectionsPerUser, maxConnections, queueCapacity,
+                slowConsumerPolicy, sseDispatchExecutor, meterRegistry);
+    }
+}
\ No newline at end of file
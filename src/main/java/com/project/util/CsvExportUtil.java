@@ -0,0 +1,41 @@
+package com.project.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.opencsv.CSVWriterBuilder;
+import com.opencsv.ICSVWriter;
+
+public class CsvExportUtil {
+	private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+	private static final int FLUSH_INTERVAL = 1000;
+
+	public static <T> long write(OutputStream out, String[] header, Stream<T> rows, Function<T, String[]> mapper) throws IOException {
+		out.write(UTF8_BOM);
+		ICSVWriter writer = new CSVWriterBuilder(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))).build();
+		writer.writeNext(header);
+		writer.flush();
+
+		long count = 0;
+		Iterator<T> iterator = rows.iterator();
+		while (iterator.hasNext()) {
+			writer.writeNext(mapper.apply(iterator.next()));
+			if (++count % FLUSH_INTERVAL == 0)
+				writer.flush();
+		}
+		writer.flush();
+		if (writer.checkError())
+			throw new IOException("CSV 쓰기 중 오류가 발생했습니다.", writer.getException());
+		return count;
+	}
+
+	public static String valueOf(Object value) {
+		return value != null ? value.toString() : "";
+	}
+}
\ No newline at end of file
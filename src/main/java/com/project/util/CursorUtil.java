@@ -0,0 +1,39 @@
+package com.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.project.exception.InvalidCursorException;
+
+public class CursorUtil {
+	private static final String SEPARATOR = "|";
+
+	public static String encode(LocalDateTime timestamp, Long id) {
+		String raw = (timestamp != null ? timestamp.toString() : "") + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank())
+			return null;
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			if (separator < 0)
+				throw new InvalidCursorException("잘못된 커서 값입니다: " + cursor);
+			String timestamp = raw.substring(0, separator);
+			return new Cursor(
+					timestamp.isEmpty() ? null : LocalDateTime.parse(timestamp),
+					Long.parseLong(raw.substring(separator + 1)));
+		} catch (InvalidCursorException e) {
+			throw e;
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("잘못된 커서 값입니다: " + cursor, e);
+		}
+	}
+
+	public record Cursor(LocalDateTime timestamp, Long id) {
+	}
+}
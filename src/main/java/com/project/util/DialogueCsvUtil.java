@@ -0,0 +1,113 @@
+package com.project.util;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.core.io.InputStreamSource;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.exception.InvalidFileException;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DialogueCsvUtil {
+	private static final DateTimeFormatter CSV_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss");
+	private static final String[] HEADER = { "doll_id", "text", "uttered_at" };
+
+	public static Stream<DialogueAnalysisRequestDto> stream(InputStreamSource source) {
+		CSVReader reader = open(source);
+		Spliterator<DialogueAnalysisRequestDto> spliterator = new Spliterators.AbstractSpliterator<>(
+				Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+			@Override
+			public boolean tryAdvance(Consumer<? super DialogueAnalysisRequestDto> action) {
+				DialogueAnalysisRequestDto dialogue = readNext(reader);
+				if (dialogue == null)
+					return false;
+				action.accept(dialogue);
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(() -> close(reader));
+	}
+
+	public static CSVWriter openWriter(Path path) {
+		try {
+			CSVWriter writer = new CSVWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+			writer.writeNext(HEADER);
+			return writer;
+		} catch (IOException e) {
+			throw new UncheckedIOException("대화 CSV 임시 파일을 생성하지 못했습니다.", e);
+		}
+	}
+
+	public static void write(CSVWriter writer, DialogueAnalysisRequestDto dialogue) {
+		writer.writeNext(new String[] { dialogue.dollId(), dialogue.text(), dialogue.utteredAt().format(CSV_FORMATTER) });
+	}
+
+	private static CSVReader open(InputStreamSource source) {
+		CSVReader reader = null;
+		try {
+			reader = new CSVReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8));
+			reader.readNext();
+			return reader;
+		} catch (CsvValidationException e) {
+			close(reader);
+			throw new InvalidFileException("잘못된 형식의 CSV 파일입니다.", e);
+		} catch (IOException e) {
+			close(reader);
+			throw new InvalidFileException("파일을 읽는 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	private static DialogueAnalysisRequestDto readNext(CSVReader reader) {
+		try {
+			String[] columns;
+			while ((columns = reader.readNext()) != null) {
+				if (columns.length < 3)
+					throw new InvalidFileException("잘못된 형식의 CSV 파일입니다.");
+				String dollId = columns[0].trim();
+				String text = columns[1].trim();
+				String utteredAtCsv = columns[2].trim();
+
+				if (dollId.isEmpty() || text.isEmpty() || utteredAtCsv.isEmpty()) {
+					log.warn("비었거나 잘못된 라인 스킵: doll_id={}, text={}, uttered_at={}", dollId, text, utteredAtCsv);
+					continue;
+				}
+				return new DialogueAnalysisRequestDto(dollId, text, LocalDateTime.parse(utteredAtCsv, CSV_FORMATTER));
+			}
+			return null;
+		} catch (DateTimeParseException e) {
+			throw new InvalidFileException("날짜 포맷은 YYYY-MM-DD HH:MM:SS이어야 합니다.", e);
+		} catch (CsvValidationException e) {
+			throw new InvalidFileException("잘못된 형식의 CSV 파일입니다.", e);
+		} catch (IOException e) {
+			throw new InvalidFileException("파일을 읽는 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	private static void close(CSVReader reader) {
+		if (reader == null)
+			return;
+		try {
+			reader.close();
+		} catch (IOException e) {
+			log.warn("CSV 리더 종료 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.project.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.support.StubAnalyzerServer;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analyzer-client-benchmark",
+        "analysis.queue.dir=./target/analysis-queue-analyzer-client/",
+        "search.fulltext.index-path=./target/search-index-analyzer-client/" })
+class AnalyzerClientThroughputBenchmarkTest {
+    private static final int CALLERS = 8;
+    private static final int OVERSUBSCRIBED_CALLERS = 32;
+    private static final int REQUESTS_PER_ROUND = 640;
+    private static final int DIALOGUES_PER_REQUEST = 200;
+    private static final String TEXT = "요즘 밤에 잠이 잘 안 오고 혼자 있으면 많이 외로워요 ";
+    private static final LocalDateTime UTTERED_AT = LocalDateTime.of(2025, 9, 23, 0, 0, 0);
+    private static final Duration LATENCY = Duration.ofMillis(5);
+    private static final StubAnalyzerServer STUB = StubAnalyzerServer.start();
+
+    @DynamicPropertySource
+    static void analyzerProperties(DynamicPropertyRegistry registry) {
+        registry.add("python.server.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Autowired
+    private RestTemplate analyzerRestTemplate;
+
+    @Autowired
+    private RiskAnalyzer riskAnalyzer;
+
+    @Value("${analyzer.http.max-connections}")
+    private int maxConnections;
+
+    @Test
+    void pooledClientReusesConnectionsWithoutLosingThroughput() throws Exception {
+        RestTemplate legacy = new RestTemplate(new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()));
+        HttpEntity<String> request = request();
+
+        run(legacy, request, CALLERS);
+        run(analyzerRestTemplate, request, CALLERS);
+
+        System.out.printf("%-10s %10s %12s %14s%n", "client", "req/s", "connections", "max in-flight");
+        Result legacyResult = print("legacy", run(legacy, request, CALLERS));
+        Result pooledResult = print("pooled", run(analyzerRestTemplate, request, CALLERS));
+
+        assertThat(pooledResult.connections()).isLessThanOrEqualTo(CALLERS);
+        assertThat(pooledResult.throughput()).isGreaterThan(legacyResult.throughput() * 0.8);
+    }
+
+    @Test
+    void analyzerCallsNeverExceedMaxConnections() throws Exception {
+        Result result = print("bulkhead", run(OVERSUBSCRIBED_CALLERS,
+                () -> riskAnalyzer.analyze("benchmark", dialogues())));
+
+        assertThat(result.maxInFlight()).isLessThanOrEqualTo(maxConnections);
+        assertThat(result.connections()).isLessThanOrEqualTo(maxConnections);
+    }
+
+    private static Result print(String client, Result result) {
+        System.out.printf("%-10s %10.0f %12d %14d%n", client, result.throughput(), result.connections(), result.maxInFlight());
+        return result;
+    }
+
+    private Result run(RestTemplate restTemplate, HttpEntity<String> request, int callerCount) throws Exception {
+        String url = STUB.url() + "/analyze";
+        return run(callerCount, () -> restTemplate.postForEntity(url, request, String.class));
+    }
+
+    private Result run(int callerCount, Callable<?> call) throws Exception {
+        STUB.reset();
+        STUB.echoDialogues(false).latency(LATENCY);
+        long start = System.nanoTime();
+        try (ExecutorService callers = Executors.newFixedThreadPool(callerCount)) {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < REQUESTS_PER_ROUND; i++)
+                calls.add(callers.submit(call));
+            for (Future<?> pending : calls)
+                pending.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(REQUESTS_PER_ROUND / seconds, STUB.connections(), STUB.maxInFlight());
+    }
+
+    private static Stream<DialogueAnalysisRequestDto> dialogues() {
+        return IntStream.range(0, DIALOGUES_PER_REQUEST)
+                .mapToObj(i -> new DialogueAnalysisRequestDto("benchmark", TEXT + i, UTTERED_AT));
+    }
+
+    private static HttpEntity<String> request() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < DIALOGUES_PER_REQUEST; i++) {
+            if (i > 0)
+                body.append(',');
+            body.append("{\"doll_id\":\"benchmark\",\"text\":\"").append(TEXT).append(i)
+                    .append("\",\"uttered_at\":\"").append(UTTERED_AT).append("\"}");
+        }
+        body.append(']');
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body.toString(), headers);
+    }
+
+    private record Result(double throughput, int connections, int maxInFlight) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.request.DollDialoguesRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+
+class CoalescingRiskAnalyzerTest {
+    private static final List<String> DOLL_IDS = List.of("doll-1", "doll-2", "doll-3");
+
+    @Test
+    void batchResultsAreRoutedByDollIdEvenWhenReordered() throws Exception {
+        CoalescingRiskAnalyzer analyzer = coalescing(new RuleBasedRiskAnalyzer() {
+            @Override
+            public List<AnalysisResponseDto> analyzeBatch(List<DollDialoguesRequestDto> requests) {
+                return super.analyzeBatch(requests).reversed();
+            }
+        });
+
+        List<Future<AnalysisResponseDto>> results = analyzeConcurrently(analyzer);
+
+        for (int i = 0; i < DOLL_IDS.size(); i++)
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS).overallResult().dollId()).isEqualTo(DOLL_IDS.get(i));
+    }
+
+    @Test
+    void errorFromBatchCallReleasesEveryWaiter() throws Exception {
+        CoalescingRiskAnalyzer analyzer = coalescing(new RuleBasedRiskAnalyzer() {
+            @Override
+            public List<AnalysisResponseDto> analyzeBatch(List<DollDialoguesRequestDto> requests) {
+                throw new StackOverflowError();
+            }
+        });
+
+        for (Future<AnalysisResponseDto> result : analyzeConcurrently(analyzer))
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+    }
+
+    private static CoalescingRiskAnalyzer coalescing(RiskAnalyzer delegate) {
+        CoalescingRiskAnalyzer analyzer = new CoalescingRiskAnalyzer(delegate);
+        ReflectionTestUtils.setField(analyzer, "window", Duration.ofMillis(500));
+        ReflectionTestUtils.setField(analyzer, "maxDialogues", 2000);
+        ReflectionTestUtils.setField(analyzer, "waitWhenIdle", true);
+        ReflectionTestUtils.setField(analyzer, "awaitTimeout", Duration.ofSeconds(2));
+        return analyzer;
+    }
+
+    private static List<Future<AnalysisResponseDto>> analyzeConcurrently(CoalescingRiskAnalyzer analyzer) {
+        ExecutorService callers = Executors.newFixedThreadPool(DOLL_IDS.size());
+        List<Future<AnalysisResponseDto>> results = new ArrayList<>();
+        for (String dollId : DOLL_IDS)
+            results.add(callers.submit(() -> analyzer.analyze(dollId, Stream.of(
+                    new DialogueAnalysisRequestDto(dollId, "요즘 혼자 있으니 외로워", LocalDateTime.of(2025, 9, 23, 10, 0))))));
+        callers.shutdown();
+        return results;
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.support.StubAnalyzerServer;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coalescing-benchmark",
+        "analysis.queue.dir=./target/analysis-queue-coalescing/",
+        "search.fulltext.index-path=./target/search-index-coalescing/" })
+class CoalescingThroughputBenchmarkTest {
+    private static final int CALLERS = 32;
+    private static final int REQUESTS_PER_CALLER = 10;
+    private static final int DIALOGUES_PER_REQUEST = 20;
+    private static final Duration MODEL_LATENCY = Duration.ofMillis(50);
+    private static final Duration[] WINDOWS = { Duration.ofMillis(5), Duration.ofMillis(20), Duration.ofMillis(50) };
+    private static final StubAnalyzerServer STUB = StubAnalyzerServer.start();
+
+    @DynamicPropertySource
+    static void analyzerProperties(DynamicPropertyRegistry registry) {
+        registry.add("python.server.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Autowired
+    private RiskAnalyzer riskAnalyzer;
+
+    @Test
+    void coalescingTradesWindowLatencyForThroughput() throws Exception {
+        run(riskAnalyzer, CALLERS);
+
+        System.out.printf("%-12s %10s %12s %10s %10s%n", "mode", "req/s", "model calls", "p50 ms", "p99 ms");
+        Result direct = print("direct", run(riskAnalyzer, CALLERS));
+        List<Result> coalesced = new ArrayList<>();
+        for (Duration window : WINDOWS)
+            coalesced.add(print("window " + window.toMillis() + "ms", run(coalescing(window, false), CALLERS)));
+
+        for (Result result : coalesced) {
+            assertThat(result.throughput()).isGreaterThan(direct.throughput());
+            assertThat(result.modelCalls()).isLessThan(direct.modelCalls());
+        }
+    }
+
+    @Test
+    void loneRequestDoesNotWaitForWindowWhenIdle() throws Exception {
+        Duration window = Duration.ofMillis(100);
+        run(coalescing(window, false), 1);
+
+        System.out.printf("%-14s %10s %10s%n", "wait-when-idle", "p50 ms", "p99 ms");
+        Result idleFlush = run(coalescing(window, false), 1);
+        System.out.printf("%-14s %10.1f %10.1f%n", "false", idleFlush.p50Millis(), idleFlush.p99Millis());
+        Result idleWait = run(coalescing(window, true), 1);
+        System.out.printf("%-14s %10.1f %10.1f%n", "true", idleWait.p50Millis(), idleWait.p99Millis());
+
+        assertThat(idleFlush.p50Millis()).isLessThan(MODEL_LATENCY.plus(window.dividedBy(2)).toMillis());
+        assertThat(idleWait.p50Millis()).isGreaterThanOrEqualTo(MODEL_LATENCY.plus(window).toMillis());
+    }
+
+    private CoalescingRiskAnalyzer coalescing(Duration window, boolean waitWhenIdle) {
+        CoalescingRiskAnalyzer analyzer = new CoalescingRiskAnalyzer(riskAnalyzer);
+        ReflectionTestUtils.setField(analyzer, "window", window);
+        ReflectionTestUtils.setField(analyzer, "maxDialogues", 2000);
+        ReflectionTestUtils.setField(analyzer, "waitWhenIdle", waitWhenIdle);
+        return analyzer;
+    }
+
+    private Result run(RiskAnalyzer analyzer, int callerCount) throws Exception {
+        STUB.reset();
+        STUB.echoDialogues(false).latency(MODEL_LATENCY);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long start = System.nanoTime();
+        try (ExecutorService callers = Executors.newFixedThreadPool(callerCount)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int caller = 0; caller < callerCount; caller++) {
+                String dollId = "coalescing-" + caller;
+                futures.add(callers.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CALLER; i++) {
+                        long requestStart = System.nanoTime();
+                        analyzer.analyze(dollId, dialogues(dollId));
+                        latencies.add(System.nanoTime() - requestStart);
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return new Result(sorted.size() / seconds, STUB.requests(),
+                percentileMillis(sorted, 0.5), percentileMillis(sorted, 0.99));
+    }
+
+    private static double percentileMillis(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1e6;
+    }
+
+    private static Result print(String mode, Result result) {
+        System.out.printf("%-12s %10.0f %12d %10.1f %10.1f%n", mode, result.throughput(), result.modelCalls(),
+                result.p50Millis(), result.p99Millis());
+        return result;
+    }
+
+    private static Stream<DialogueAnalysisRequestDto> dialogues(String dollId) {
+        LocalDateTime utteredAt = LocalDateTime.of(2025, 9, 23, 10, 0);
+        return IntStream.range(0, DIALOGUES_PER_REQUEST)
+                .mapToObj(i -> new DialogueAnalysisRequestDto(dollId, "요즘 밤에 잠이 잘 안 와요 " + i, utteredAt.plusSeconds(i)));
+    }
+
+    private record Result(double throughput, int modelCalls, double p50Millis, double p99Millis) {
+    }
+}
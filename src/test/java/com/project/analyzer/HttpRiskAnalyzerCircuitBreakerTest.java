@@ -0,0 +1,153 @@
+package com.project.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.exception.PythonApiException;
+import com.project.support.StubAnalyzerServer;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analyzer-circuit-breaker",
+        "analyzer.http.read-timeout=PT1S",
+        "resilience4j.circuitbreaker.instances.pythonAnalyzer.sliding-window-size=4",
+        "resilience4j.circuitbreaker.instances.pythonAnalyzer.minimum-number-of-calls=4",
+        "resilience4j.circuitbreaker.instances.pythonAnalyzer.slow-call-duration-threshold=200ms",
+        "resilience4j.circuitbreaker.instances.pythonAnalyzer.wait-duration-in-open-state=500ms",
+        "resilience4j.circuitbreaker.instances.pythonAnalyzer.permitted-number-of-calls-in-half-open-state=2",
+        "analysis.queue.dir=./target/analysis-queue-circuit-breaker/",
+        "search.fulltext.index-path=./target/search-index-circuit-breaker/" })
+class HttpRiskAnalyzerCircuitBreakerTest {
+    private static final StubAnalyzerServer STUB = StubAnalyzerServer.start();
+
+    @DynamicPropertySource
+    static void analyzerProperties(DynamicPropertyRegistry registry) {
+        registry.add("python.server.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Autowired
+    private RiskAnalyzer riskAnalyzer;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        STUB.reset();
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("pythonAnalyzer");
+        circuitBreaker.reset();
+    }
+
+    @Test
+    void failingAnalyzerOpensBreakerAndLaterCallsFailFast() {
+        STUB.failureStatus(500);
+        for (int i = 0; i < 4; i++)
+            assertThatThrownBy(this::analyze).isInstanceOf(PythonApiException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::analyze)
+                .isInstanceOf(PythonApiException.class)
+                .hasMessageContaining("일시적으로 분석 요청을 차단");
+        assertThat(STUB.requests()).isEqualTo(4);
+        assertThat(meterRegistry.counter("analyzer.circuitbreaker.transitions",
+                "name", "pythonAnalyzer", "from", "CLOSED", "to", "OPEN").count()).isPositive();
+    }
+
+    @Test
+    void slowAnalyzerOpensBreaker() {
+        STUB.latency(Duration.ofMillis(300));
+        for (int i = 0; i < 4; i++)
+            analyze();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void readTimeoutsCountAsFailures() {
+        STUB.latency(Duration.ofMillis(1500));
+        for (int i = 0; i < 4; i++)
+            assertThatThrownBy(this::analyze).isInstanceOf(ResourceAccessException.class);
+
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(4);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void rejectedInputDoesNotOpenBreaker() {
+        STUB.failureStatus(422);
+        for (int i = 0; i < 8; i++)
+            assertThatThrownBy(this::analyze)
+                    .isInstanceOfSatisfying(PythonApiException.class, e -> assertThat(e.isRetryable()).isFalse());
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(STUB.requests()).isEqualTo(8);
+    }
+
+    @Test
+    void breakerClosesAgainAfterSuccessfulHalfOpenCalls() throws InterruptedException {
+        STUB.failureStatus(500);
+        for (int i = 0; i < 4; i++)
+            assertThatThrownBy(this::analyze).isInstanceOf(PythonApiException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(600);
+        STUB.failureStatus(0);
+        analyze();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        analyze();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedHalfOpenCallsReopenBreaker() throws InterruptedException {
+        STUB.failureStatus(500);
+        for (int i = 0; i < 4; i++)
+            assertThatThrownBy(this::analyze).isInstanceOf(PythonApiException.class);
+
+        Thread.sleep(600);
+        for (int i = 0; i < 2; i++)
+            assertThatThrownBy(this::analyze).isInstanceOf(PythonApiException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void analyze() {
+        riskAnalyzer.analyze("breaker", dialogues());
+    }
+
+    private static Stream<DialogueAnalysisRequestDto> dialogues() {
+        LocalDateTime utteredAt = LocalDateTime.of(2025, 9, 23, 10, 0);
+        return IntStream.range(0, 3)
+                .mapToObj(i -> new DialogueAnalysisRequestDto("breaker", "요즘 혼자 있으니 외로워 " + i, utteredAt.plusSeconds(i)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.analyzer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.support.StubAnalyzerServer;
+import com.project.util.DialogueCsvUtil;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streaming-ingestion-benchmark",
+        "analysis.queue.dir=./target/analysis-queue-streaming-ingestion/",
+        "search.fulltext.index-path=./target/search-index-streaming-ingestion/" })
+class StreamingIngestionMemoryBenchmarkTest {
+    private static final int[] FILE_SIZES_MB = { 4, 16, 64 };
+    private static final DateTimeFormatter CSV_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss");
+    private static final StubAnalyzerServer STUB = StubAnalyzerServer.start()
+            .echoDialogues(false)
+            .readDelayPerMegabyte(Duration.ofMillis(20));
+
+    @DynamicPropertySource
+    static void analyzerProperties(DynamicPropertyRegistry registry) {
+        registry.add("python.server.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Autowired
+    private RiskAnalyzer riskAnalyzer;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void peakHeapStaysFlatAsUploadGrows() throws Exception {
+        long smallestGrowth = 0;
+        long largestGrowth = 0;
+        System.out.printf("%10s %12s %14s %18s%n", "file(MB)", "dialogues", "sent(MB)", "peak heap +(MB)");
+        for (int sizeMb : FILE_SIZES_MB) {
+            Path csv = writeCsv(sizeMb);
+            long growth = measurePeakHeapGrowth(csv);
+            System.out.printf("%10d %12d %14.1f %18.1f%n", sizeMb, countDialogues(csv),
+                    STUB.requestBytes() / 1048576.0, growth / 1048576.0);
+            if (sizeMb == FILE_SIZES_MB[0])
+                smallestGrowth = growth;
+            largestGrowth = growth;
+            Files.delete(csv);
+        }
+
+        long largestFileBytes = FILE_SIZES_MB[FILE_SIZES_MB.length - 1] * 1048576L;
+        assertThat(largestGrowth).isLessThan(largestFileBytes / 4);
+        assertThat(largestGrowth).isLessThan(smallestGrowth + 16 * 1048576L);
+    }
+
+    private long measurePeakHeapGrowth(Path csv) throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        STUB.reset();
+        STUB.echoDialogues(false).readDelayPerMegabyte(Duration.ofMillis(20));
+        long baseline = liveHeap(memory);
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(liveHeap(memory), Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        try (Stream<DialogueAnalysisRequestDto> dialogues = DialogueCsvUtil.stream(new FileSystemResource(csv))) {
+            riskAnalyzer.analyze("benchmark", dialogues);
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        return peak.get() - baseline;
+    }
+
+    private static long liveHeap(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private Path writeCsv(int sizeMb) throws IOException {
+        Path csv = tempDir.resolve("dialogues-" + sizeMb + "mb.csv");
+        long targetBytes = sizeMb * 1048576L;
+        LocalDateTime utteredAt = LocalDateTime.of(2025, 9, 23, 0, 0, 0);
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("doll_id,text,uttered_at\n");
+            for (int i = 0; Files.size(csv) < targetBytes; i++) {
+                for (int j = 0; j < 1000; j++, utteredAt = utteredAt.plusSeconds(1))
+                    writer.write("benchmark,\"요즘 밤에 잠이 잘 안 오고 혼자 있으면 많이 외로워요 " + i + "-" + j + "\","
+                            + utteredAt.format(CSV_FORMATTER) + "\n");
+                writer.flush();
+            }
+        }
+        return csv;
+    }
+
+    private static long countDialogues(Path csv) throws IOException {
+        try (Stream<String> lines = Files.lines(csv, StandardCharsets.UTF_8)) {
+            return lines.count() - 1;
+        }
+    }
+}
\ No newline at end of file
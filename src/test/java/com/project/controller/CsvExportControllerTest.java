@@ -0,0 +1,99 @@
+package com.project.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.project.domain.member.Member;
+import com.project.domain.member.Role;
+import com.project.persistence.DollRepository;
+import com.project.persistence.MemberRepository;
+import com.project.service.SeniorService;
+import com.project.support.AnalysisFixtures;
+import com.project.util.JWTUtil;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:csv-export",
+        "export.concurrency=1",
+        "analysis.queue.dir=./target/analysis-queue-csv-export/",
+        "search.fulltext.index-path=./target/search-index-csv-export/" })
+class CsvExportControllerTest {
+    private static final String ADMIN = "export-admin";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ThreadPoolTaskExecutor exportExecutor;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @BeforeEach
+    void createAdmin() {
+        if (memberRepository.findById(ADMIN).isEmpty())
+            memberRepository.save(Member.builder().username(ADMIN).password("pw").role(Role.ROLE_ADMIN).enabled(true).build());
+    }
+
+    @Test
+    void exportStreamsCsvFromTheExportPool() throws Exception {
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "export-1", "정말순", 1);
+
+        HttpResponse<String> response = get("/api/seniors/export");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("text/csv;charset=UTF-8");
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_DISPOSITION)).hasValue("attachment; filename=\"seniors.csv\"");
+        assertThat(response.body()).contains("\"senior_id\",\"name\"").contains("정말순");
+    }
+
+    @Test
+    void exportIsRejectedWithItsOwnMessageWhenThePoolIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        int capacity = exportExecutor.getMaxPoolSize() + exportExecutor.getQueueCapacity();
+        for (int i = 0; i < capacity; i++)
+            exportExecutor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        try {
+            HttpResponse<String> response = get("/api/analyze/export");
+
+            assertThat(response.statusCode()).isEqualTo(503);
+            assertThat(response.headers().firstValue(HttpHeaders.CONTENT_DISPOSITION)).isEmpty();
+            assertThat(response.body()).contains("내보내기 요청이 많아 처리할 수 없습니다.");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.AUTHORIZATION, JWTUtil.getJWT(ADMIN))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.domain.senior.AnalysisCounts;
+import com.project.domain.senior.Senior;
+import com.project.dto.response.AnalysisResponseWithIdDto;
+import com.project.persistence.DollRepository;
+import com.project.persistence.SeniorRepository;
+import com.project.service.AnalyzeService;
+import com.project.service.SeniorService;
+import com.project.support.AnalysisFixtures;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:senior-summary-repair",
+        "analyzer.type=rule",
+        "analysis.queue.dir=./target/analysis-queue-summary-repair/",
+        "search.fulltext.index-path=./target/search-index-summary-repair/" })
+class SeniorSummaryRepairListenerTest {
+    @Autowired
+    private SeniorSummaryRepairListener seniorSummaryRepairListener;
+
+    @Autowired
+    private AnalyzeService analyzeService;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @Autowired
+    private SeniorRepository seniorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void summaryColumnsLeftEmptyByUpgradeAreBackfilled() {
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "repair-1", "윤복순", 1);
+        AnalysisResponseWithIdDto saved = analyzeService.analyzeAndSave(
+                AnalysisFixtures.dialogueCsv("repair-1", 3, "오늘은 기분이 좋아요"), "repair-1.csv", true);
+        // 요약 컬럼이 막 추가된 기존 행 재현
+        jdbcTemplate.update("UPDATE senior SET latest_overall_result_id = NULL, last_state_changed_at = NULL, "
+                + "positive_count = 0, danger_count = 0, critical_count = 0, emergency_count = 0");
+        assertThat(seniorRepository.findAll().get(0).getLatestOverallResultId()).isNull();
+
+        seniorSummaryRepairListener.backfillSummaries();
+
+        Senior senior = seniorRepository.findAll().get(0);
+        assertThat(senior.getLatestOverallResultId()).isEqualTo(saved.id());
+        assertThat(senior.getLastStateChangedAt()).isNotNull();
+        assertThat(senior.getAnalysisCounts()).isNotEqualTo(AnalysisCounts.empty());
+    }
+}
@@ -0,0 +1,182 @@
+package com.project.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.domain.analysis.ConfidenceScores;
+import com.project.domain.analysis.Dialogue;
+import com.project.domain.analysis.OverallResult;
+import com.project.domain.analysis.Reason;
+import com.project.domain.analysis.Risk;
+import com.project.domain.senior.Doll;
+import com.project.dto.ConfidenceScoresDto;
+import com.project.dto.EvidenceDto;
+import com.project.dto.ReasonDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.dto.response.DialogueAnalysisResponseDto;
+import com.project.dto.response.OverallResultPythonResponseDto;
+import com.project.service.AnalysisResultService;
+import com.project.service.SeniorService;
+import com.project.support.AnalysisFixtures;
+import com.project.support.StatementCountingDataSource;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analysis-persistence-benchmark",
+        "analysis.queue.dir=./target/analysis-queue-persistence/",
+        "search.fulltext.index-path=./target/search-index-persistence/" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalysisPersistenceBenchmarkTest {
+    private static final String DOLL_ID = "persistence-benchmark";
+    private static final int[] DIALOGUE_COUNTS = { 200, 2000 };
+    private static final int EVIDENCE_COUNT = 3;
+    private static final int RUNS = 5;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                            ? new StatementCountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AnalysisResultService analysisResultService;
+
+    @Autowired
+    private OverallResultRepository overallResultRepository;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void setUp() {
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, DOLL_ID, "김영희", 1);
+    }
+
+    @Test
+    void batchedPersistenceUsesFewerRoundTrips() {
+        StatementCountingDataSource counter = (StatementCountingDataSource) dataSource;
+        System.out.printf("%10s %-16s %12s %14s %12s%n", "dialogues", "path", "round trips", "batched rows", "median ms");
+        for (int dialogueCount : DIALOGUE_COUNTS) {
+            AnalysisResponseDto response = response(dialogueCount);
+            Measurement perEntity = measure(counter, () -> saveEntityPerRow(response));
+            Measurement batched = measure(counter, () -> analysisResultService.saveAnalysisResult(DOLL_ID, response, UUID.randomUUID().toString()));
+            print(dialogueCount, "jpa per row", perEntity);
+            print(dialogueCount, "jdbc batch", batched);
+
+            assertThat(perEntity.roundTrips()).isGreaterThanOrEqualTo(dialogueCount);
+            assertThat(batched.roundTrips()).isLessThan(perEntity.roundTrips() / 10);
+        }
+    }
+
+    private Object saveEntityPerRow(AnalysisResponseDto response) {
+        return transactionTemplate.execute(status -> {
+            Doll doll = dollRepository.findByIdWithSeniorForUpdate(DOLL_ID).orElseThrow();
+            OverallResultPythonResponseDto overall = response.overallResult();
+            OverallResult overallResult = OverallResult.builder()
+                    .doll(doll)
+                    .senior(doll.getSenior())
+                    .label(overall.label())
+                    .confidenceScores(scores(overall.confidenceScores()))
+                    .reason(Reason.builder()
+                            .reasons(new ArrayList<>(overall.reason().evidence().stream().map(EvidenceDto::text).toList()))
+                            .summary(overall.reason().summary())
+                            .build())
+                    .treatmentPlan(overall.treatmentPlan())
+                    .contentHash(UUID.randomUUID().toString())
+                    .build();
+            for (DialogueAnalysisResponseDto dialogue : response.dialogueResult())
+                overallResult.addDialogue(Dialogue.builder()
+                        .text(dialogue.text())
+                        .utteredAt(dialogue.utteredAt())
+                        .label(dialogue.label())
+                        .confidenceScores(scores(dialogue.confidenceScores()))
+                        .build());
+            return overallResultRepository.save(overallResult);
+        });
+    }
+
+    private static Measurement measure(StatementCountingDataSource counter, Supplier<?> save) {
+        save.get();
+        long[] elapsed = new long[RUNS];
+        long roundTrips = 0;
+        long batchedRows = 0;
+        for (int i = 0; i < RUNS; i++) {
+            counter.reset();
+            long startedAt = System.nanoTime();
+            save.get();
+            elapsed[i] = System.nanoTime() - startedAt;
+            roundTrips = counter.roundTrips();
+            batchedRows = counter.batchedRows();
+        }
+        Arrays.sort(elapsed);
+        return new Measurement(roundTrips, batchedRows, elapsed[RUNS / 2] / 1_000_000.0);
+    }
+
+    private static void print(int dialogueCount, String path, Measurement measurement) {
+        System.out.printf("%10d %-16s %12d %14d %12.1f%n", dialogueCount, path,
+                measurement.roundTrips(), measurement.batchedRows(), measurement.medianMillis());
+    }
+
+    private static AnalysisResponseDto response(int dialogueCount) {
+        ConfidenceScoresDto scores = new ConfidenceScoresDto(0.1, 0.7, 0.1, 0.1);
+        LocalDateTime utteredAt = LocalDateTime.of(2025, 9, 23, 10, 0, 0);
+        List<DialogueAnalysisResponseDto> dialogues = new ArrayList<>();
+        for (int i = 0; i < dialogueCount; i++)
+            dialogues.add(new DialogueAnalysisResponseDto((long) i, DOLL_ID, "요즘 너무 외롭다 " + i,
+                    utteredAt.plusSeconds(i), Risk.DANGER, scores));
+        List<EvidenceDto> evidence = new ArrayList<>();
+        for (int i = 0; i < EVIDENCE_COUNT; i++)
+            evidence.add(new EvidenceDto(i, "요즘 너무 외롭다 " + i, 0.9));
+        return new AnalysisResponseDto(new OverallResultPythonResponseDto(DOLL_ID, dialogueCount, 0, Risk.DANGER, scores,
+                "정기 방문 상담", "", new ReasonDto(evidence, "외로움을 호소함")), dialogues);
+    }
+
+    private static ConfidenceScores scores(ConfidenceScoresDto dto) {
+        return ConfidenceScores.builder()
+                .positive(dto.positive())
+                .danger(dto.danger())
+                .critical(dto.critical())
+                .emergency(dto.emergency())
+                .build();
+    }
+
+    private record Measurement(long roundTrips, long batchedRows, double medianMillis) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.project.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class HangulPrefixIndexTest {
+    @Test
+    void removingNamesPrunesNodesNoLongerOnAnyPath() {
+        HangulPrefixIndex index = new HangulPrefixIndex();
+        index.put(1L, "김영희");
+        index.put(2L, "김영");
+        index.put(3L, "박순자");
+
+        index.remove(1L);
+        assertThat(index.search("김ㅇ", 10)).containsExactly(2L);
+        assertThat(children(child(child(root(index), '김'), '영'))).isEmpty();
+
+        index.put(3L, "이말순");
+        index.remove(2L);
+        assertThat(children(root(index))).containsOnlyKeys('이');
+
+        index.remove(3L);
+        assertThat(children(root(index))).isEmpty();
+        assertThat(index.search("ㅇ", 10)).isEmpty();
+    }
+
+    private static Object root(HangulPrefixIndex index) {
+        return ReflectionTestUtils.getField(index, "root");
+    }
+
+    private static Object child(Object node, char c) {
+        return children(node).get(c);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Character, Object> children(Object node) {
+        return (Map<Character, Object>) ReflectionTestUtils.getField(node, "children");
+    }
+}
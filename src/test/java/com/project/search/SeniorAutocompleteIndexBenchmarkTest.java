@@ -0,0 +1,87 @@
+package com.project.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.domain.senior.Address;
+import com.project.domain.senior.Beopjeongdong;
+import com.project.domain.senior.Gu;
+import com.project.domain.senior.Senior;
+import com.project.domain.senior.Sex;
+import com.project.dto.response.SeniorListResponseDto;
+
+@Tag("benchmark")
+class SeniorAutocompleteIndexBenchmarkTest {
+    private static final int SENIORS = 100_000;
+    private static final int LIMIT = 10;
+    private static final int ITERATIONS = 200_000;
+    private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류홍";
+    private static final String GIVEN = "순영자희숙옥말분정미경례복연춘금명선화덕";
+    private static final String[] QUERIES = { "ㄱ", "ㄱㅁㅅ", "김ㅁ", "김미", "이여", "ㅂㅂ", "최순자" };
+
+    @Test
+    void chosungQueriesAnswerInMicrosecondsAtOneHundredThousandNames() {
+        List<Senior> seniors = seniors();
+        SeniorAutocompleteIndex index = new SeniorAutocompleteIndex();
+        long buildStart = System.nanoTime();
+        index.rebuild(seniors);
+        double buildMillis = (System.nanoTime() - buildStart) / 1e6;
+        System.out.printf("build %d names: %.0f ms%n", SENIORS, buildMillis);
+
+        System.out.printf("%-8s %8s %12s%n", "query", "hits", "mean us");
+        for (String query : QUERIES) {
+            for (int i = 0; i < ITERATIONS; i++)
+                index.search(query, LIMIT);
+            long start = System.nanoTime();
+            List<SeniorListResponseDto> hits = List.of();
+            for (int i = 0; i < ITERATIONS; i++)
+                hits = index.search(query, LIMIT);
+            double meanMicros = (System.nanoTime() - start) / 1e3 / ITERATIONS;
+            System.out.printf("%-8s %8d %12.2f%n", query, hits.size(), meanMicros);
+
+            assertThat(hits).isNotEmpty().allSatisfy(hit -> assertThat(matches(hit.name(), query)).isTrue());
+            assertThat(meanMicros).isLessThan(100);
+        }
+    }
+
+    private static boolean matches(String name, String query) {
+        if (name.length() < query.length())
+            return false;
+        for (int i = 0; i < query.length(); i++) {
+            if (!matches(name.charAt(i), query.charAt(i), i == query.length() - 1))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(char c, char q, boolean last) {
+        if (Hangul.isChosung(q))
+            return Hangul.chosungOf(c) == q;
+        if (last && Hangul.isSyllable(q) && !Hangul.hasJongsung(q))
+            return c >= q && c <= Hangul.lastSyllableWithSameVowel(q);
+        return c == q;
+    }
+
+    private static List<Senior> seniors() {
+        Random random = new Random(19);
+        Address address = Address.builder().address("대전광역시 동구").gu(Gu.DONG_GU).dong(Beopjeongdong.WON_DONG).build();
+        List<Senior> seniors = new ArrayList<>(SENIORS);
+        for (int i = 0; i < SENIORS; i++) {
+            String name = "" + SURNAMES.charAt(random.nextInt(SURNAMES.length()))
+                    + GIVEN.charAt(random.nextInt(GIVEN.length())) + GIVEN.charAt(random.nextInt(GIVEN.length()));
+            Senior senior = Senior.builder().name(name).birthDate(LocalDate.of(1940, 1, 1)).sex(Sex.FEMALE)
+                    .phone(String.format("010-%04d-%04d", i / 10000, i % 10000)).address(address).build();
+            ReflectionTestUtils.setField(senior, "id", (long) i + 1);
+            seniors.add(senior);
+        }
+        return seniors;
+    }
+}
@@ -0,0 +1,167 @@
+package com.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.project.domain.analysis.AnalysisJobStatus;
+import com.project.dto.response.AnalysisJobResponseDto;
+import com.project.dto.response.AnalysisResponseWithIdDto;
+import com.project.dto.response.BatchAnalysisResponseDto;
+import com.project.persistence.DollRepository;
+import com.project.persistence.OverallResultRepository;
+import com.project.support.AnalysisFixtures;
+import com.project.support.StubAnalyzerServer;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analysis-job-service",
+        "analysis.queue.dir=./target/analysis-queue-job-service/",
+        "analysis.queue.initial-backoff=PT0.2S",
+        "analysis.queue.max-backoff=PT0.2S",
+        "analysis.queue.max-attempts=5",
+        "search.fulltext.index-path=./target/search-index-job-service/" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalysisJobServiceTest {
+    private static final Path QUEUE_DIR = Path.of("./target/analysis-queue-job-service/");
+    private static final StubAnalyzerServer STUB = StubAnalyzerServer.start();
+
+    @DynamicPropertySource
+    static void analyzerProperties(DynamicPropertyRegistry registry) {
+        registry.add("python.server.url", STUB::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Autowired
+    private AnalysisJobService analysisJobService;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @Autowired
+    private OverallResultRepository overallResultRepository;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeAll
+    void setUp() {
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "job-1", "김순이", 1);
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "job-2", "정말자", 2);
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "job-3", "한옥순", 3);
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "job-4", "오금자", 4);
+    }
+
+    @BeforeEach
+    void resetAnalyzer() {
+        STUB.reset();
+        circuitBreakerRegistry.circuitBreaker("pythonAnalyzer").reset();
+    }
+
+    @Test
+    void uploadIsQueuedBeforeAnalysisAndRetriedUntilAnalyzerRecovers() throws Exception {
+        STUB.failureStatus(500);
+        AnalysisJobService.Attempt<AnalysisResponseWithIdDto> attempt = analysisJobService.analyze(
+                file("job-1", 3, "아침에 산책을 했다"), "admin", false);
+
+        assertThat(attempt.result()).isNull();
+        assertThat(attempt.job().status()).isEqualTo(AnalysisJobStatus.RETRYING);
+        assertThat(queuedFiles()).contains(attempt.job().jobId() + ".csv", attempt.job().jobId() + ".job");
+
+        STUB.failureStatus(0);
+        AnalysisJobResponseDto job = awaitFinished(attempt.job().jobId());
+
+        assertThat(job.status()).isEqualTo(AnalysisJobStatus.COMPLETED);
+        assertThat(job.overallResultId()).isNotNull();
+        assertThat(queuedFiles()).noneMatch(name -> name.startsWith(job.jobId()));
+    }
+
+    @Test
+    void batchRetriesFailedDollsWithoutDuplicatingSavedOnes() throws Exception {
+        StringBuilder csv = new StringBuilder("doll_id,text,uttered_at\n");
+        AnalysisFixtures.appendDialogues(csv, "job-1", 3, "점심으로 국수를 먹었다");
+        AnalysisFixtures.appendDialogues(csv, "job-2", 3, "손주가 전화를 했다");
+        long before = overallResultRepository.count();
+
+        STUB.failFor("job-2");
+        AnalysisJobService.Attempt<BatchAnalysisResponseDto> attempt = analysisJobService.analyzeBatch(
+                new MockMultipartFile("file", "batch.csv", "text/csv", csv.toString().getBytes()), "admin", true);
+
+        assertThat(attempt.result().results()).hasSize(1);
+        assertThat(attempt.result().errors()).singleElement()
+                .satisfies(error -> assertThat(error.dollId()).isEqualTo("job-2"))
+                .satisfies(error -> assertThat(error.retryable()).isTrue());
+        assertThat(attempt.result().jobId()).isEqualTo(attempt.job().jobId());
+        assertThat(attempt.job().status()).isEqualTo(AnalysisJobStatus.RETRYING);
+
+        STUB.failFor();
+        AnalysisJobResponseDto job = awaitFinished(attempt.job().jobId());
+
+        assertThat(job.status()).isEqualTo(AnalysisJobStatus.COMPLETED);
+        assertThat(job.overallResultIds()).hasSize(2).contains(attempt.result().results().get(0).id());
+        assertThat(overallResultRepository.count()).isEqualTo(before + 2);
+    }
+
+    @Test
+    void batchThatStillFailsAfterLastAttemptFailsAndKeepsQueuedFile() throws Exception {
+        StringBuilder csv = new StringBuilder("doll_id,text,uttered_at\n");
+        AnalysisFixtures.appendDialogues(csv, "job-3", 3, "텃밭에 상추를 심었다");
+        AnalysisFixtures.appendDialogues(csv, "job-4", 3, "무릎이 시큰거린다");
+
+        STUB.failFor("job-4");
+        AnalysisJobService.Attempt<BatchAnalysisResponseDto> attempt = analysisJobService.analyzeBatch(
+                new MockMultipartFile("file", "batch.csv", "text/csv", csv.toString().getBytes()), "admin", false);
+        AnalysisJobResponseDto job = awaitFinished(attempt.job().jobId());
+
+        assertThat(job.status()).isEqualTo(AnalysisJobStatus.FAILED);
+        assertThat(job.attempts()).isEqualTo(5);
+        assertThat(job.error()).contains("1개 인형 분석 실패");
+        assertThat(job.overallResultIds()).containsExactly(attempt.result().results().get(0).id());
+        assertThat(queuedFiles()).contains(job.jobId() + ".csv", job.jobId() + ".job");
+        assertThat(Files.readString(QUEUE_DIR.resolve(job.jobId() + ".job"))).contains("\"failed_at\"");
+    }
+
+    private AnalysisJobResponseDto awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        AnalysisJobResponseDto job = analysisJobService.getJob(jobId);
+        while (job.completedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = analysisJobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private static MockMultipartFile file(String dollId, int lines, String text) throws Exception {
+        return new MockMultipartFile("file", dollId + ".csv", "text/csv",
+                AnalysisFixtures.dialogueCsv(dollId, lines, text).getByteArray());
+    }
+
+    private static List<String> queuedFiles() throws Exception {
+        try (Stream<Path> paths = Files.list(QUEUE_DIR)) {
+            return paths.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+}
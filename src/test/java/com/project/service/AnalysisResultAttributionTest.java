@@ -0,0 +1,54 @@
+package com.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.project.analyzer.RiskAnalyzer;
+import com.project.dto.request.DialogueAnalysisRequestDto;
+import com.project.dto.response.AnalysisResponseDto;
+import com.project.exception.PythonApiException;
+import com.project.persistence.DollRepository;
+import com.project.persistence.OverallResultRepository;
+import com.project.support.AnalysisFixtures;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analysis-result-attribution",
+        "analyzer.type=rule",
+        "analysis.queue.dir=./target/analysis-queue-attribution/",
+        "search.fulltext.index-path=./target/search-index-attribution/" })
+class AnalysisResultAttributionTest {
+    @Autowired
+    private AnalysisResultService analysisResultService;
+
+    @Autowired
+    private RiskAnalyzer riskAnalyzer;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @Autowired
+    private OverallResultRepository overallResultRepository;
+
+    @Test
+    void resultReportedForAnotherDollIsRejected() {
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "requested", "이말순", 1);
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "reported", "최복례", 2);
+        AnalysisResponseDto response = riskAnalyzer.analyze("reported", Stream.of(
+                new DialogueAnalysisRequestDto("reported", "요즘 혼자 있으니 외로워", LocalDateTime.of(2025, 9, 23, 10, 0))));
+
+        assertThatThrownBy(() -> analysisResultService.saveAnalysisResult("requested", response, "hash"))
+                .isInstanceOf(PythonApiException.class)
+                .satisfies(e -> assertThat(((PythonApiException) e).isRetryable()).isFalse());
+        assertThat(overallResultRepository.count()).isZero();
+    }
+}
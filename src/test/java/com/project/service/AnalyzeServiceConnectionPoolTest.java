@@ -0,0 +1,107 @@
+package com.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.analyzer.SimulatedRiskAnalyzer;
+import com.project.persistence.DollRepository;
+import com.project.support.AnalysisFixtures;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analyze-connection-pool",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "analyzer.type=simulator",
+        "analysis.queue.dir=./target/analysis-queue-connection-pool/",
+        "search.fulltext.index-path=./target/search-index-connection-pool/" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyzeServiceConnectionPoolTest {
+    private static final int CONCURRENT_ANALYSES = 8;
+
+    @Autowired
+    private AnalyzeService analyzeService;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @Autowired
+    private SimulatedRiskAnalyzer simulatedRiskAnalyzer;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < CONCURRENT_ANALYSES; i++)
+            AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "pool-" + i, "김영희" + i, i);
+        ReflectionTestUtils.setField(simulatedRiskAnalyzer, "latency", Duration.ZERO);
+        analyzeService.analyzeAndSave(AnalysisFixtures.dialogueCsv("pool-0", 20, "워밍업"), "warmup.csv", true);
+    }
+
+    @Test
+    void connectionTimeDoesNotGrowWithModelLatency() throws Exception {
+        Duration shortLatency = Duration.ofMillis(200);
+        Duration longLatency = Duration.ofMillis(1500);
+        Duration shortLatencyHeld = connectionTimeHeld(shortLatency);
+        Duration longLatencyHeld = connectionTimeHeld(longLatency);
+
+        assertThat(longLatencyHeld).isLessThan(longLatency.multipliedBy(CONCURRENT_ANALYSES).dividedBy(4));
+        assertThat(longLatencyHeld).isLessThan(shortLatencyHeld.plus(longLatency.minus(shortLatency)));
+    }
+
+    private Duration connectionTimeHeld(Duration latency) throws Exception {
+        ReflectionTestUtils.setField(simulatedRiskAnalyzer, "latency", latency);
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Integer> samples = new ArrayList<>();
+        Thread sampler = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                samples.add(pool.getActiveConnections());
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_ANALYSES);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_ANALYSES; i++) {
+                String dollId = "pool-" + i;
+                futures.add(callers.submit(() -> analyzeService.analyzeAndSave(
+                        AnalysisFixtures.dialogueCsv(dollId, 50, "요즘 너무 외롭다"), dollId + ".csv", true)));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            callers.shutdown();
+            running.set(false);
+            sampler.join();
+        }
+        double averageActive = samples.stream().mapToInt(Integer::intValue).average().orElse(0);
+        return Duration.ofNanos((long) (averageActive * (System.nanoTime() - startedAt)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.project.dto.response.AnalysisResponseWithIdDto;
+import com.project.dto.response.CustomPageDto;
+import com.project.dto.response.DialogueSearchResultDto;
+import com.project.persistence.DollRepository;
+import com.project.search.SearchHitType;
+import com.project.support.AnalysisFixtures;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dialogue-search-indexing",
+        "analyzer.type=rule",
+        "analysis.queue.dir=./target/analysis-queue-dialogue-search/",
+        "search.fulltext.index-path=./target/search-index-dialogue-search/" })
+class DialogueSearchIndexingTest {
+    @Autowired
+    private AnalyzeService analyzeService;
+
+    @Autowired
+    private DialogueSearchService dialogueSearchService;
+
+    @Autowired
+    private SeniorService seniorService;
+
+    @Autowired
+    private DollRepository dollRepository;
+
+    @Autowired
+    private ThreadPoolTaskExecutor projectionExecutor;
+
+    @Test
+    void analyzedDialoguesAreSearchableOnceIndexed() throws Exception {
+        AnalysisFixtures.createSeniorWithDoll(dollRepository, seniorService, "search-1", "박순자", 1);
+
+        AnalysisResponseWithIdDto saved = analyzeService.analyzeAndSave(
+                AnalysisFixtures.dialogueCsv("search-1", 5, "베란다 화분에 물을 주었다"), "search-1.csv", true);
+        // 색인은 한 스레드에서 순서대로 처리되므로, 뒤에 넣은 빈 작업이 끝나면 색인도 끝난 것
+        projectionExecutor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+
+        CustomPageDto<DialogueSearchResultDto> hits = dialogueSearchService.search(
+                "화분", SearchHitType.DIALOGUE, null, PageRequest.of(0, 20));
+        assertThat(hits.content()).hasSize(5)
+                .allSatisfy(hit -> assertThat(hit.overallResultId()).isEqualTo(saved.id()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.domain.member.Member;
+import com.project.domain.member.Role;
+import com.project.dto.response.NotificationResponseDto;
+import com.project.persistence.MemberRepository;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-migration",
+        "analysis.queue.dir=./target/analysis-queue-notification-migration/",
+        "search.fulltext.index-path=./target/search-index-notification-migration/" })
+class NotificationMigrationServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 9, 1, 9, 0);
+
+    @Autowired
+    private NotificationMigrationService notificationMigrationService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void legacyPerRecipientRowsBecomeEventsWithReadState() {
+        for (String username : List.of("alice", "bob", "carol"))
+            memberRepository.save(Member.builder().username(username).password("pw").role(Role.ROLE_ADMIN).enabled(true).build());
+        jdbcTemplate.execute("CREATE TABLE notification (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "recipient_username VARCHAR(255), notification_type VARCHAR(255) NOT NULL, message VARCHAR(255), "
+                + "related_resource_id VARCHAR(255), is_read BOOLEAN NOT NULL, created_at TIMESTAMP)");
+        // bob은 첫 알림을 삭제했고, carol은 모든 알림을 삭제함
+        legacy("alice", "ANALYSIS_COMPLETE", "분석 완료", "1", true, 0);
+        legacy("alice", "SENIOR_STATE_CHANGED", "상태 변경", "7", false, 1);
+        legacy("bob", "SENIOR_STATE_CHANGED", "상태 변경", "7", true, 1);
+        legacy("alice", "SENIOR_STATE_CHANGED", "상태 변경", "7", false, 2);
+        legacy("bob", "SENIOR_STATE_CHANGED", "상태 변경", "7", false, 2);
+
+        assertThat(notificationMigrationService.migrateLegacyNotifications()).isEqualTo(3);
+
+        List<NotificationResponseDto> alice = notificationService.getNotificationsForUser("alice");
+        assertThat(alice).extracting(NotificationResponseDto::isRead).containsExactly(false, false, true);
+        assertThat(alice.get(2).createdAt()).isEqualTo(CREATED_AT);
+        assertThat(notificationService.getUnreadCount("alice").unreadCount()).isEqualTo(2);
+
+        List<NotificationResponseDto> bob = notificationService.getNotificationsForUser("bob");
+        assertThat(bob).extracting(NotificationResponseDto::isRead).containsExactly(false, true);
+        assertThat(bob).extracting(NotificationResponseDto::notificationId)
+                .containsExactly(alice.get(0).notificationId(), alice.get(1).notificationId());
+        assertThat(notificationService.getUnreadCount("bob").unreadCount()).isEqualTo(1);
+
+        assertThat(notificationService.getNotificationsForUser("carol")).isEmpty();
+        assertThat(notificationService.getUnreadCount("carol").unreadCount()).isZero();
+
+        assertThat(notificationMigrationService.migrateLegacyNotifications()).isZero();
+    }
+
+    private void legacy(String recipient, String type, String message, String resourceId, boolean isRead, int minutes) {
+        jdbcTemplate.update("INSERT INTO notification (recipient_username, notification_type, message, "
+                + "related_resource_id, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                recipient, type, message, resourceId, isRead, CREATED_AT.plusMinutes(minutes));
+    }
+}
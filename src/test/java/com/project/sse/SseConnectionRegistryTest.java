@@ -0,0 +1,39 @@
+package com.project.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseConnectionRegistryTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseConnectionRegistry registry = new SseConnectionRegistry("notifications", 60_000, 5, 100, 16,
+            SlowConsumerPolicy.DROP_OLDEST, Runnable::run, meterRegistry);
+
+    @Test
+    void userGaugeFollowsConnectionsAndIsRemovedWithTheLastOne() {
+        SseEmitter first = registry.register("alice");
+        SseEmitter second = registry.register("alice");
+        registry.register("bob");
+
+        assertThat(userGauge("alice").value()).isEqualTo(2);
+        assertThat(userGauge("bob").value()).isEqualTo(1);
+
+        registry.remove("alice", first);
+        assertThat(userGauge("alice").value()).isEqualTo(1);
+
+        registry.remove("alice", second);
+        assertThat(meterRegistry.find("sse.connections.user").tag("username", "alice").gauge()).isNull();
+        assertThat(userGauge("bob").value()).isEqualTo(1);
+
+        registry.register("alice");
+        assertThat(userGauge("alice").value()).isEqualTo(1);
+    }
+
+    private Gauge userGauge(String username) {
+        return meterRegistry.get("sse.connections.user").tag("stream", "notifications").tag("username", username).gauge();
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.core.io.ByteArrayResource;
+
+import com.project.domain.senior.Beopjeongdong;
+import com.project.domain.senior.Doll;
+import com.project.domain.senior.Gu;
+import com.project.domain.senior.Residence;
+import com.project.domain.senior.Sex;
+import com.project.dto.request.SeniorRequestDto;
+import com.project.persistence.DollRepository;
+import com.project.service.SeniorService;
+
+public final class AnalysisFixtures {
+    private static final DateTimeFormatter CSV_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss");
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 9, 23, 10, 0, 0);
+
+    private AnalysisFixtures() {
+    }
+
+    public static void createSeniorWithDoll(DollRepository dollRepository, SeniorService seniorService,
+            String dollId, String name, int phoneSuffix) {
+        dollRepository.save(Doll.builder().id(dollId).build());
+        seniorService.createSenior(new SeniorRequestDto(dollId, name, LocalDate.of(1940, 1, 1), Sex.FEMALE,
+                Residence.APARTMENT, String.format("010-1234-%04d", phoneSuffix), "대전광역시 동구", null,
+                Gu.DONG_GU, Beopjeongdong.WON_DONG, 36.3, 127.4, null, "보호자", "010-9999-0000", "자녀",
+                null, null, null, null), null);
+    }
+
+    public static ByteArrayResource dialogueCsv(String dollId, int lines, String text) {
+        StringBuilder csv = new StringBuilder("doll_id,text,uttered_at\n");
+        appendDialogues(csv, dollId, lines, text);
+        return csv(csv);
+    }
+
+    public static void appendDialogues(StringBuilder csv, String dollId, int lines, String text) {
+        for (int i = 0; i < lines; i++)
+            csv.append(dollId).append(",\"").append(text).append(' ').append(i).append("\",")
+                    .append(BASE_TIME.plusSeconds(i).format(CSV_FORMATTER)).append('\n');
+    }
+
+    public static ByteArrayResource csv(CharSequence csv) {
+        return new ByteArrayResource(csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
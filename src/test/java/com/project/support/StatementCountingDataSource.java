@@ -0,0 +1,86 @@
+package com.project.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong batchedRows = new AtomicLong();
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    public long roundTrips() {
+        return roundTrips.get();
+    }
+
+    public long batchedRows() {
+        return batchedRows.get();
+    }
+
+    public void reset() {
+        roundTrips.set(0);
+        batchedRows.set(0);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), this::connectionCall);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), this::connectionCall);
+    }
+
+    private Object connectionCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (result instanceof CallableStatement statement)
+            return proxy(CallableStatement.class, statement, this::statementCall);
+        if (result instanceof PreparedStatement statement)
+            return proxy(PreparedStatement.class, statement, this::statementCall);
+        if (result instanceof Statement statement)
+            return proxy(Statement.class, statement, this::statementCall);
+        return result;
+    }
+
+    private Object statementCall(Object target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.equals("addBatch"))
+            batchedRows.incrementAndGet();
+        else if (name.startsWith("execute"))
+            roundTrips.incrementAndGet();
+        return invoke(target, method, args);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, TargetInvocationHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.invoke(target, method, args);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface TargetInvocationHandler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.project.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public final class StubAnalyzerServer implements AutoCloseable {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingDollIds = ConcurrentHashMap.newKeySet();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration readDelayPerMegabyte = Duration.ZERO;
+    private volatile int failureStatus;
+    private volatile boolean echoDialogues = true;
+
+    private StubAnalyzerServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/analyze", this::handle);
+    }
+
+    public static StubAnalyzerServer start() {
+        try {
+            StubAnalyzerServer stub = new StubAnalyzerServer();
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public StubAnalyzerServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public StubAnalyzerServer readDelayPerMegabyte(Duration readDelayPerMegabyte) {
+        this.readDelayPerMegabyte = readDelayPerMegabyte;
+        return this;
+    }
+
+    public StubAnalyzerServer failureStatus(int failureStatus) {
+        this.failureStatus = failureStatus;
+        return this;
+    }
+
+    public StubAnalyzerServer failFor(String... dollIds) {
+        failingDollIds.clear();
+        failingDollIds.addAll(Set.of(dollIds));
+        return this;
+    }
+
+    public StubAnalyzerServer echoDialogues(boolean echoDialogues) {
+        this.echoDialogues = echoDialogues;
+        return this;
+    }
+
+    public void reset() {
+        latency = Duration.ZERO;
+        readDelayPerMegabyte = Duration.ZERO;
+        failureStatus = 0;
+        echoDialogues = true;
+        failingDollIds.clear();
+        requests.set(0);
+        requestBytes.set(0);
+        maxInFlight.set(0);
+        connections.clear();
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public long requestBytes() {
+        return requestBytes.get();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public int connections() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        connections.add(exchange.getRemoteAddress());
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            InputStream body = new ThrottledInputStream(exchange.getRequestBody());
+            if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding")))
+                body = new GZIPInputStream(body);
+            boolean batch = exchange.getRequestURI().getPath().endsWith("/batch");
+            JsonNode result = batch ? respondBatch(body) : respond(body);
+            sleep(latency);
+            if (failureStatus != 0 || !batch && failingDollIds.contains(result.path("overall_result").path("doll_id").asText())) {
+                exchange.sendResponseHeaders(failureStatus != 0 ? failureStatus : 500, -1);
+                return;
+            }
+            byte[] response = objectMapper.writeValueAsBytes(result);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private JsonNode respond(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            parser.nextToken();
+            return analyze(parser);
+        }
+    }
+
+    private JsonNode respondBatch(InputStream body) throws IOException {
+        ArrayNode responses = objectMapper.createArrayNode();
+        for (JsonNode request : objectMapper.readTree(body)) {
+            try (JsonParser parser = objectMapper.treeAsTokens(request.get("dialogues"))) {
+                parser.nextToken();
+                responses.add(analyze(parser));
+            }
+        }
+        return responses;
+    }
+
+    private JsonNode analyze(JsonParser dialogues) throws IOException {
+        ArrayNode dialogueResult = objectMapper.createArrayNode();
+        String dollId = null;
+        String firstText = null;
+        int count = 0;
+        while (dialogues.nextToken() == JsonToken.START_OBJECT) {
+            JsonNode dialogue = objectMapper.readTree(dialogues);
+            if (dollId == null) {
+                dollId = dialogue.get("doll_id").asText();
+                firstText = dialogue.get("text").asText();
+            }
+            if (echoDialogues)
+                dialogueResult.addObject()
+                        .put("seq", count)
+                        .put("doll_id", dollId)
+                        .put("text", dialogue.get("text").asText())
+                        .put("uttered_at", dialogue.get("uttered_at").asText())
+                        .put("label", "DANGER")
+                        .set("confidence_scores", scores());
+            count++;
+        }
+        ObjectNode overall = objectMapper.createObjectNode()
+                .put("doll_id", dollId)
+                .put("dialogue_count", count)
+                .put("char_length", 0)
+                .put("label", "DANGER")
+                .put("treatment_plan", "정기 방문 상담")
+                .put("full_text", "");
+        overall.set("confidence_scores", scores());
+        overall.putObject("reason")
+                .put("summary", "외로움을 호소함")
+                .putArray("evidence").addObject()
+                .put("seq", 0)
+                .put("text", firstText)
+                .put("score", 0.9);
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("overall_result", overall);
+        response.set("dialogue_result", dialogueResult);
+        return response;
+    }
+
+    private JsonNode scores() {
+        return objectMapper.createObjectNode()
+                .put("positive", 0.1)
+                .put("danger", 0.7)
+                .put("critical", 0.1)
+                .put("emergency", 0.1);
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero())
+            return;
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class ThrottledInputStream extends InputStream {
+        private static final int MEGABYTE = 1 << 20;
+
+        private final InputStream delegate;
+        private long unthrottled;
+
+        private ThrottledInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                requestBytes.addAndGet(read);
+                unthrottled += read;
+                if (unthrottled >= MEGABYTE) {
+                    unthrottled -= MEGABYTE;
+                    sleep(readDelayPerMegabyte);
+                }
+            }
+            return read;
+        }
+    }
+}
\ No newline at end of file